@@ -11,6 +11,8 @@ import java.io.IOException;
 import java.util.*;
 import java.util.List;
 import java.util.Stack;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * The ScrabbleController class manages game settings, player data, and board state for a Scrabble game.
@@ -24,6 +26,7 @@ public class ScrabbleController {
     private static boolean firstTurn = true;
     private static Stack<GameState> undoStack = new Stack<>();
     private static Stack<GameState> redoStack = new Stack<>();
+    private static String lexiconName = null; // null means the default lexicon held by WordValidity
 
     // Player Information
     private static ArrayList<String> playerNames = new ArrayList<>();
@@ -34,9 +37,19 @@ public class ScrabbleController {
     // Board and Tile Management
     private static ArrayList<JButton> masterPlacedButtons = new ArrayList<>();
     public static char[][] board = new char[15][15];
+    private static CrossChecks crossChecks; // Letters allowed in each empty square of the committed board; null until needed
+    private static UnseenTileTracker unseenTiles; // Tiles each player cannot see; null until needed
+    private static TileBag unseenTilesBag; // The bag the tracker was counted from
     public static TileBag tileBag = new TileBag();
     private static List<Point> placedTileCoordinates = new ArrayList<>();
     public static ScrabbleView view;
+    // Searches for AI moves off the Event Dispatch Thread, one turn or ponder at a time, so a turn waits for the ponder before it
+    private static final ExecutorService aiExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ai-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static int turnGeneration = 0; // Incremented when the game state is replaced, so stale AI moves are dropped
     /**
      * Constructor for the ScrabbleController class.
      *
@@ -94,6 +107,7 @@ public class ScrabbleController {
                 List<Character> initialTiles = tileBag.drawTiles(7);
                 playerTilesMap.put(playerName, initialTiles);
             }
+            unseenTiles = null; // Counted from the dealt racks when next needed
 
             //ScrabbleController.initializeCustomBoard("boardConfig.json");
             isInitialized = true;
@@ -131,6 +145,37 @@ public class ScrabbleController {
 
 
 
+    /**
+     * Chooses the dictionary this game validates words with, by its name in the {@link LexiconRegistry}.
+     *
+     * @param name the registered dictionary name, or null to use the default lexicon.
+     * @throws IllegalArgumentException if no dictionary is registered under the name.
+     */
+    public static void setLexiconName(String name) {
+        if (name != null && !LexiconRegistry.isRegistered(name)) {
+            throw new IllegalArgumentException("No lexicon is registered under the name '" + name + "'.");
+        }
+        lexiconName = name;
+    }
+
+    /**
+     * Retrieves the name of the dictionary chosen for this game.
+     *
+     * @return the registered dictionary name, or null if the default lexicon is used.
+     */
+    public static String getLexiconName() {
+        return lexiconName;
+    }
+
+    /**
+     * Retrieves the dictionary this game validates words with, loading it on first use.
+     *
+     * @return the game's lexicon.
+     */
+    public static Lexicon getLexicon() {
+        return lexiconName == null ? WordValidity.getLexicon() : LexiconRegistry.get(lexiconName);
+    }
+
     /**
      * Initializes player scores by setting all player scores to 0.
      * Clears any existing scores and resets the scores list based on the number of players.
@@ -316,44 +361,103 @@ public class ScrabbleController {
         return board;  // Access the current board state
     }
     /**
-     * Handles the AI player's turn, including word placement, scoring, and tile updates.
+     * Starts the AI player's turn. The move search runs on the background AI executor from a copy of the game state,
+     * so the Event Dispatch Thread keeps painting and handling input while the view shows that the AI is thinking.
+     * Preparing the turn stops any ponder, which then hands its moves over before the search starts.
      */
-    private static void handleAITurn(JLabel[] playerScoresLabels) {
+    private static void startAITurn(JLabel[] playerScoresLabels) {
         String aiPlayerName = getCurrentPlayerName();
-        List<Character> aiTiles = playerTilesMap.get(aiPlayerName);
-
+        AIPlayer.Turn turn = AIPlayer.prepareTurn(getLexicon(), turnContext(aiPlayerName));
+        int generation = turnGeneration;
 
-        Set<String> formedWords = AIPlayer.makeMove(board, aiTiles,playerScoresLabels);
+        if (view != null) {
+            view.setAIThinking(aiPlayerName);
+        }
 
-        if (!formedWords.isEmpty()) {
-            for (String word : formedWords) {
+        aiExecutor.execute(() -> {
+            List<Move> moves;
+            try {
+                moves = turn.search();
+            } catch (RuntimeException e) {
+                System.err.println("AI search failed: " + e.getMessage());
+                moves = new ArrayList<>();
+            }
+            List<Move> searched = moves;
+            SwingUtilities.invokeLater(() -> finishAITurn(aiPlayerName, turn, searched, generation, playerScoresLabels));
+        });
+    }
 
-                for (int i = 0; i < word.length(); i++) {
-                    JButton dummyButton = new JButton(String.valueOf(word.charAt(i)));
-                    dummyButton.putClientProperty("row", 0); // Replace with the actual row if available
-                    dummyButton.putClientProperty("col", i); // Replace with the actual column if available
-                }
+    /**
+     * Finishes the AI player's turn on the Event Dispatch Thread: plays the searched move, updates the view
+     * and moves on to the next player. Each AI turn finishes in its own event, so a run of AI turns
+     * does not nest on the call stack.
+     */
+    private static void finishAITurn(String aiPlayerName, AIPlayer.Turn turn, List<Move> moves, int generation,
+                                     JLabel[] playerScoresLabels) {
+        if (generation != turnGeneration || turn.isCancelled()) {
+            // The game was undone, redone or loaded while the AI was thinking; its move no longer applies
+            System.out.println(aiPlayerName + "'s move was discarded.");
+            if (view != null && generation == turnGeneration) {
+                view.setAIThinking(null);
+            }
+            return;
+        }
 
-                assert view != null;
-                view.updateAITiles();
+        TurnResult result = turn.commit(moves);
 
+        if (result.isPlay()) {
+            if (firstTurn) {
+                setFirstTurnCompleted();
+            }
+            if (view != null) {
+                ButtonCommands.updateScoresAndDisplayWords(result.getWordScores(), result.getBonus(), view.wordHistoryArea,
+                        playerScoresLabels);
+            } else {
+                addScoreToPlayer(currentPlayerIndex, result.getScore());
+            }
+            for (String word : result.getFormedWords()) {
                 System.out.println(aiPlayerName + " placed the word: " + word);
             }
 
             Helpers.updateOldTileCoordinates();
-        }
-
-        if (formedWords.isEmpty()) {
+        } else if (result.isExchange()) {
+            System.out.println(aiPlayerName + " exchanged " + result.getExchangedTiles().size() + " tiles.");
+        } else {
             System.out.println(aiPlayerName + " passed their turn.");
         }
 
         if (view != null) {
+            view.setAIThinking(null);
             view.updateBoardDisplay();
+            view.updateAITiles();
+        }
+
+        switchToNextPlayer(playerScoresLabels);
+
+        if (view != null) {
             view.updatePlayerTiles();
             view.turnLabel.setText("Turn: " + getCurrentPlayerName());
         }
+    }
 
-        switchToNextPlayer(playerScoresLabels);
+    /**
+     * Builds the context an AI turn is played in from this game's state: its board and cross-checks, its bag,
+     * the players' racks and its unseen-tile tracker.
+     */
+    private static TurnContext turnContext(String playerName) {
+        return new TurnContext(board, getCrossChecks(), tileBag, playerTilesMap, playerName, getUnseenTileTracker(),
+                firstTurn);
+    }
+
+    /**
+     * Drops the result of any AI turn in progress, for when the game state it was searched from is replaced.
+     */
+    private static void abandonAITurn() {
+        AIPlayer.cancelSearch();
+        turnGeneration++;
+        if (view != null) {
+            view.setAIThinking(null);
+        }
     }
 
     /**
@@ -366,13 +470,43 @@ public class ScrabbleController {
     }
 
     /**
-     * Switches to the next player's turn, including handling AI turns.
+     * Switches to the next player's turn. If that player is an AI, its turn is started in the background
+     * and this method returns without waiting for it.
      */
     public static void switchToNextPlayer(JLabel[] playerScoresLabels) {
         currentPlayerIndex = (currentPlayerIndex + 1) % playercount;
 
         if (getCurrentPlayerName().startsWith("AI Player")) {
-            handleAITurn(playerScoresLabels);
+            startAITurn(playerScoresLabels);
+        } else {
+            startPondering();
+        }
+    }
+
+    /**
+     * Turns pondering on or off: while a human player is thinking, the AI player after them searches its moves
+     * on the current board at low priority, so its own turn only has to recheck the lines the human's move changed.
+     *
+     * @param enabled true to ponder; off by default.
+     */
+    public static void setPondering(boolean enabled) {
+        AIPlayer.setPondering(enabled);
+        if (enabled) {
+            startPondering();
+        }
+    }
+
+    /**
+     * Starts the next player's ponder on the AI executor if pondering is on, the current player is human
+     * and the next player is an AI.
+     */
+    private static void startPondering() {
+        if (!AIPlayer.isPondering() || playercount == 0 || getCurrentPlayerName().startsWith("AI Player")) {
+            return;
+        }
+        String nextPlayerName = playerNames.get((currentPlayerIndex + 1) % playercount);
+        if (nextPlayerName.startsWith("AI Player")) {
+            aiExecutor.execute(AIPlayer.preparePonder(getLexicon(), turnContext(nextPlayerName)));
         }
     }
 
@@ -392,6 +526,7 @@ public class ScrabbleController {
      */
     public static void setPlayerTilesMap(Map<String, List<Character>> tilesMap) {
         playerTilesMap = tilesMap;  // Set the map of player tiles
+        unseenTiles = null; // Recounted from the new racks when next needed
     }
 
     /**
@@ -401,6 +536,85 @@ public class ScrabbleController {
      */
     public static void setBoard(char[][] newBoard) {
         board = newBoard;  // Set the current board state
+        crossChecks = null; // Recomputed from the new board when next needed
+    }
+
+    /**
+     * Retrieves the cross-checks of the committed board for the game's lexicon.
+     * The table is computed in full on first use, after the board is replaced and after the
+     * lexicon changes; otherwise it is kept up to date move by move through {@link #updateCrossChecks}.
+     *
+     * @return the board's cross-checks.
+     */
+    public static CrossChecks getCrossChecks() {
+        Lexicon lexicon = getLexicon();
+        if (crossChecks == null || crossChecks.lexicon() != lexicon) {
+            crossChecks = new CrossChecks(lexicon, board);
+        }
+        return crossChecks;
+    }
+
+    /**
+     * Updates the cross-checks after a move has been committed, recomputing only the squares
+     * its tiles affect.
+     *
+     * @param placedTiles the (row, col) coordinates of the tiles the move placed.
+     */
+    public static void updateCrossChecks(List<Point> placedTiles) {
+        if (crossChecks != null) {
+            crossChecks.update(board, placedTiles);
+        }
+    }
+
+    /**
+     * Retrieves the tracker of the tiles each player cannot see. The tracker is counted from the tile bag and
+     * the racks on first use and after the racks are replaced; otherwise it is kept up to date through
+     * {@link #updateUnseenTilesAfterPlay}, {@link #updateUnseenTilesAfterDraw} and {@link #updateUnseenTilesAfterReturn}.
+     *
+     * @return the unseen-tile tracker.
+     */
+    public static UnseenTileTracker getUnseenTileTracker() {
+        if (unseenTiles == null || unseenTilesBag != tileBag) {
+            unseenTiles = new UnseenTileTracker(tileBag, playerTilesMap);
+            unseenTilesBag = tileBag;
+        }
+        return unseenTiles;
+    }
+
+    /**
+     * Updates the unseen-tile tracker after a player's tiles have been placed on the board.
+     *
+     * @param playerName the player who placed the tiles.
+     * @param placement  the tiles placed.
+     */
+    public static void updateUnseenTilesAfterPlay(String playerName, Placement placement) {
+        if (unseenTiles != null) {
+            unseenTiles.played(playerName, placement);
+        }
+    }
+
+    /**
+     * Updates the unseen-tile tracker after a player has drawn tiles from the bag.
+     *
+     * @param playerName the player who drew the tiles.
+     * @param drawnTiles the tiles drawn.
+     */
+    public static void updateUnseenTilesAfterDraw(String playerName, List<Character> drawnTiles) {
+        if (unseenTiles != null) {
+            unseenTiles.drew(playerName, drawnTiles);
+        }
+    }
+
+    /**
+     * Updates the unseen-tile tracker after a player has put tiles back into the bag.
+     *
+     * @param playerName    the player who returned the tiles.
+     * @param returnedTiles the tiles returned.
+     */
+    public static void updateUnseenTilesAfterReturn(String playerName, List<Character> returnedTiles) {
+        if (unseenTiles != null) {
+            unseenTiles.returned(playerName, returnedTiles);
+        }
     }
 
 
@@ -563,6 +777,7 @@ public class ScrabbleController {
         try {
             // Load the game state from the file
             GameState gameState = GameState.loadGameState(filename);
+            abandonAITurn(); // The loaded game replaces the one the AI was searching
 
             // Restore the game state using the loaded data
             setPlayerNames(gameState.getPlayerNames());
@@ -605,6 +820,8 @@ public class ScrabbleController {
             return;
         }
 
+        abandonAITurn(); // A move searched for the state being undone must not be played
+
         try {
             // Ensure there's a valid state to save for redo before popping the undo stack
             if (!undoStack.isEmpty()) {
@@ -638,6 +855,8 @@ public class ScrabbleController {
             return;
         }
 
+        abandonAITurn(); // The redone state replaces the one the AI was searching
+
         try {
             // Ensure there's a valid state to save for undo before popping the redo stack
             if (!redoStack.isEmpty()) {
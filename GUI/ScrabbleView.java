@@ -30,6 +30,8 @@ public class ScrabbleView extends JFrame {
     // Player Information Display
     public JLabel[] playerScoresLabels;
     public JLabel turnLabel;
+    private JProgressBar aiThinkingBar;
+    private boolean aiThinking;
 
     // Tile Management Display
     private JPanel tilePanel;
@@ -46,6 +48,7 @@ public class ScrabbleView extends JFrame {
     private JMenuItem loadMenuItem;
     private JMenuItem undoMenuItem;
     private JMenuItem redoMenuItem;
+    private JCheckBoxMenuItem ponderMenuItem;
 
     /**
      * Constructs the ScrabbleView GUI, initializing the game board, control panel, and tile panel.
@@ -57,6 +60,12 @@ public class ScrabbleView extends JFrame {
         setTitle("SYSC3110 Group20 Scrabble Game");
         setSize(950, 750);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosing(java.awt.event.WindowEvent e) {
+                AIPlayer.cancelSearch(); // Stop an AI turn in progress before the game exits
+            }
+        });
         setLayout(new BorderLayout());
 
         ScrabbleController.setView(this);
@@ -103,6 +112,11 @@ public class ScrabbleView extends JFrame {
         redoMenuItem.addActionListener(e -> ScrabbleController.redoLastMove());
         gameMenu.add(redoMenuItem);
 
+        // Pondering menu item
+        ponderMenuItem = new JCheckBoxMenuItem("AI Thinks During Your Turn", AIPlayer.isPondering());
+        ponderMenuItem.addActionListener(e -> ScrabbleController.setPondering(ponderMenuItem.isSelected()));
+        gameMenu.add(ponderMenuItem);
+
         menuBar.add(gameMenu);
         setJMenuBar(menuBar);
     }
@@ -223,6 +237,54 @@ public class ScrabbleView extends JFrame {
         initializeTurnLabel(controlGbc);
         initializeControlButtons(controlGbc);
         initializeLegend(controlGbc);
+        initializeAIThinkingBar(controlGbc);
+    }
+
+    /**
+     * Initializes the progress bar shown while an AI player is searching for its move.
+     *
+     * @param controlGbc the layout constraints for positioning within the control panel.
+     */
+    private void initializeAIThinkingBar(GridBagConstraints controlGbc) {
+        aiThinkingBar = new JProgressBar();
+        aiThinkingBar.setIndeterminate(true);
+        aiThinkingBar.setStringPainted(true);
+        aiThinkingBar.setVisible(false);
+        controlGbc.gridy = 7;
+        controlPanel.add(aiThinkingBar, controlGbc);
+    }
+
+    /**
+     * Shows or hides that an AI player is thinking. While it is, the progress bar runs and the
+     * controls and tile rack are disabled so no move can be made out of turn.
+     *
+     * @param aiPlayerName the name of the AI player thinking, or null once it has finished.
+     */
+    public void setAIThinking(String aiPlayerName) {
+        aiThinking = aiPlayerName != null;
+        if (aiThinking) {
+            aiThinkingBar.setString(aiPlayerName + " is thinking...");
+        }
+        aiThinkingBar.setVisible(aiThinking);
+        passButton.setEnabled(!aiThinking);
+        clearButton.setEnabled(!aiThinking);
+        submitButton.setEnabled(!aiThinking);
+        if (aiThinking) {
+            for (JButton tileButton : playerTileButtons) {
+                tileButton.setEnabled(false);
+            }
+        }
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Checks whether an AI player is currently searching for its move.
+     *
+     * @return true while the AI thinking indicator is shown.
+     */
+    public boolean isAIThinking() {
+        return aiThinking;
     }
 
     /**
@@ -452,6 +514,10 @@ public class ScrabbleView extends JFrame {
             currentPlayerTiles = new ArrayList<>();
         }
 
+        if (aiThinking) {
+            return; // The rack stays disabled, showing the last human player's tiles, until the AI has moved
+        }
+
         System.out.println("Updating player tiles: " + currentPlayerTiles); // Debug log
 
         for (int i = 0; i < playerTileButtons.length; i++) {
@@ -1,6 +1,11 @@
 import GUI.*;
+import src.LexiconRegistry;
+import src.LexiconWatcher;
 import src.WordValidity;
 import javax.swing.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -30,8 +35,16 @@ public class Main {
                     "Milad Zazai - 101185228\n" +
                     "Kaif Ali - 101180909\n");
 
-            String wordListFilePath = "resources/wordlist.txt";
-            WordValidity.loadWordsFromFile(wordListFilePath);
+            // Load the shipped dictionary through the registry so games can share it by name
+            WordValidity.setLexicon(LexiconRegistry.get(LexiconRegistry.DEFAULT_NAME));
+
+            // Pick up edits to the dictionary file without restarting the game
+            LexiconWatcher watcher = null;
+            try {
+                watcher = WordValidity.watchWordList(LexiconRegistry.getFilePath(LexiconRegistry.DEFAULT_NAME));
+            } catch (IOException e) {
+                System.err.println("Word list changes will not be picked up: " + e.getMessage());
+            }
 
             // Initialize game settings and players
             ScrabbleController.initializeGameSettings();
@@ -42,6 +55,21 @@ public class Main {
             // Initialize the view with the first player's tiles
             ScrabbleView view = new ScrabbleView(15, new ArrayList<>(playerTiles));
             view.setVisible(true);
+
+            // Stop watching the word list when the game window closes
+            if (watcher != null) {
+                LexiconWatcher openWatcher = watcher;
+                view.addWindowListener(new WindowAdapter() {
+                    @Override
+                    public void windowClosing(WindowEvent e) {
+                        try {
+                            openWatcher.close();
+                        } catch (IOException ex) {
+                            System.err.println("Error closing the word list watcher: " + ex.getMessage());
+                        }
+                    }
+                });
+            }
         });
     }
 }
\ No newline at end of file
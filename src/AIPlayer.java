@@ -1,204 +1,656 @@
 package src;
 
-import GUI.ScrabbleController;
-import GUI.ScrabbleView;
-
-import javax.swing.*;
-import java.awt.*;
 import java.util.*;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 
 public class AIPlayer {
+    // Number of best moves kept; the rest can only matter if all of these are rejected
+    private static final int CANDIDATE_MOVES = 32;
+    private static final String LEAVE_TABLE_FILE = "resources/leaves.bin";
+    // Built offline by OpeningBook.main; without the file, openings are added as racks come up
+    private static final String OPENING_BOOK_FILE = "resources/openings.bin";
+    private static final int SIMULATION_PLIES = 2;
+    private static final int MAX_SIMULATION_SAMPLES = 64;
+    private static final int MAX_LINE_CACHES = 8;
+
+    private static int searchParallelism = Runtime.getRuntime().availableProcessors();
+    private static ParallelMoveSearch parallelSearch;
+    private static long endgameTimeLimitMillis = 3000;
+    private static EndgameSolver endgameSolver;
+    private static OpeningBook openingBook;
+    // Moves of each board line from recent searches, by canonical rack; a cache is taken out while a search uses it
+    private static final Map<String, LineMoveCache> lineCaches = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LineMoveCache> eldest) {
+            return size() > MAX_LINE_CACHES;
+        }
+    };
+    private static Lexicon lineCacheLexicon;
+    private static int simulationCandidates = 8;
+    private static MoveSimulator simulator;
+    private static Lexicon simulatorLexicon;
+    private static LeaveTable simulatorLeaves;
+    private static int simulatorParallelism;
+    private static long moveTimeLimitMillis = 200;
+    private static volatile SearchBudget currentSearch; // The budget of the move being searched, if any
+    private static volatile SearchBudget currentPonder; // The budget of the search ahead of an AI's turn, if any
+    private static boolean pondering = false;
+    // Built offline by LeaveTableBuilder; without the file, leaves are valued with per-tile estimates
+    private static volatile LeaveTable leaveTable = LeaveTable.loadOrHeuristic(LEAVE_TABLE_FILE);
 
     /**
-     * Simulates an AI making a move on the board.
-     * The AI forms a valid word using its available tiles and ensures the placement adheres to Scrabble rules.
+     * Sets the table the AI uses to value the tiles it keeps after a move.
      *
-     * @param board   The current Scrabble board.
-     * @param aiTiles The AI's available tiles.
-     * @return A set of words formed by the AI.
+     * @param table the leave table.
      */
-    public static Set<String> makeMove(char[][] board, List<Character> aiTiles, JLabel[] playerScoresLabels) {
-        Set<String> formedWords = new HashSet<>();
+    public static void setLeaveTable(LeaveTable table) {
+        leaveTable = table;
+    }
+
+    /**
+     * Retrieves the table the AI uses to value the tiles it keeps after a move.
+     *
+     * @return the leave table; loaded from resources/leaves.bin if present, otherwise heuristic.
+     */
+    public static LeaveTable getLeaveTable() {
+        return leaveTable;
+    }
 
-        if (aiTiles == null || aiTiles.isEmpty()) {
-            System.out.println("AI has no tiles and will pass its turn.");
-            return formedWords;
+    /**
+     * Sets how many threads the AI uses to search for moves. With 1 the search runs on the calling thread.
+     *
+     * @param parallelism the number of search threads, at least 1.
+     * @throws IllegalArgumentException if parallelism is less than 1.
+     */
+    public static synchronized void setSearchParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism + ".");
         }
+        searchParallelism = parallelism;
+    }
 
-        for (int attempt = 0; attempt < 100; attempt++) {
-            String word = formWord(aiTiles);
-            if (word.isEmpty()) {
-                System.out.println("AI could not form a valid word.");
-                return formedWords;
-            }
+    /**
+     * Retrieves how many threads the AI uses to search for moves.
+     *
+     * @return the number of search threads; defaults to the number of available processors.
+     */
+    public static synchronized int getSearchParallelism() {
+        return searchParallelism;
+    }
 
-            boolean isPlaced = tryPlaceWordOnBoard(board, word, aiTiles, playerScoresLabels);
+    /**
+     * Sets the longest time the AI may spend searching for a move. When it runs out,
+     * the AI plays the best move found so far.
+     *
+     * @param millis the time limit in milliseconds, or 0 for no limit.
+     * @throws IllegalArgumentException if the limit is negative.
+     */
+    public static synchronized void setMoveTimeLimit(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Time limit must not be negative, got " + millis + ".");
+        }
+        moveTimeLimitMillis = millis;
+    }
+
+    /**
+     * Retrieves the longest time the AI may spend searching for a move.
+     *
+     * @return the time limit in milliseconds, or 0 for no limit; defaults to 200.
+     */
+    public static synchronized long getMoveTimeLimit() {
+        return moveTimeLimitMillis;
+    }
 
-            if (isPlaced) {
-                // Collect all words formed by this placement
-                formedWords = Helpers.getAllWordsFormed();
+    /**
+     * Sets the longest time the AI may spend searching an endgame, once the bag is empty and it can tell
+     * exactly which tiles its only opponent holds.
+     *
+     * @param millis the time limit in milliseconds, or 0 for no limit.
+     * @throws IllegalArgumentException if the limit is negative.
+     */
+    public static synchronized void setEndgameTimeLimit(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Time limit must not be negative, got " + millis + ".");
+        }
+        endgameTimeLimitMillis = millis;
+    }
 
-                // Validate all words formed
-                if (Helpers.areAllWordsValid(formedWords, false)) {
-                    System.out.println("AI placed the word: " + word);
-                    break;
-                } else {
-                    System.out.println("AI formed invalid words. Undoing move.");
-                    undoAIMove(board);
-                    formedWords.clear();
-                }
-            }
+    /**
+     * Retrieves the longest time the AI may spend searching an endgame.
+     *
+     * @return the time limit in milliseconds, or 0 for no limit; defaults to 3000.
+     */
+    public static synchronized long getEndgameTimeLimit() {
+        return endgameTimeLimitMillis;
+    }
+
+    /**
+     * Sets how many of the AI's best moves by equity are compared by simulating the game a few turns ahead.
+     * Simulation uses whatever remains of the move time limit after the search.
+     *
+     * @param candidates the number of moves to simulate, or 0 to play the best move by equity without simulating.
+     * @throws IllegalArgumentException if the number is negative.
+     */
+    public static synchronized void setSimulationCandidates(int candidates) {
+        if (candidates < 0) {
+            throw new IllegalArgumentException("Simulation candidates must not be negative, got " + candidates + ".");
+        }
+        simulationCandidates = candidates;
+    }
+
+    /**
+     * Retrieves how many of the AI's best moves by equity are compared by simulation.
+     *
+     * @return the number of moves simulated, or 0 if simulation is off; defaults to 8.
+     */
+    public static synchronized int getSimulationCandidates() {
+        return simulationCandidates;
+    }
+
+    /**
+     * Sets whether an AI player searches its moves ahead of its turn, while the player before it is thinking.
+     *
+     * @param enabled true to ponder; off by default.
+     */
+    public static synchronized void setPondering(boolean enabled) {
+        pondering = enabled;
+        if (!enabled) {
+            cancelPondering();
         }
+    }
 
-        if (formedWords.isEmpty()) {
-            System.out.println("AI failed to place any word after multiple attempts.");
+    /**
+     * Retrieves whether an AI player searches its moves ahead of its turn.
+     *
+     * @return true if pondering is on.
+     */
+    public static synchronized boolean isPondering() {
+        return pondering;
+    }
+
+    /**
+     * Stops the AI's move search, if one is running, without playing a move, along with any search
+     * ahead of a turn. Called when the game is closed or a turn is undone.
+     */
+    public static void cancelSearch() {
+        SearchBudget budget = currentSearch;
+        if (budget != null) {
+            budget.cancel();
         }
+        cancelPondering();
+    }
 
-        return formedWords;
+    /**
+     * Stops the search ahead of an AI's turn, if one is running.
+     */
+    public static void cancelPondering() {
+        SearchBudget budget = currentPonder;
+        if (budget != null) {
+            budget.cancel();
+        }
     }
 
     /**
-     * Undoes an AI's move by removing the tiles it placed on the board.
-     * This method resets the affected board cells to empty and clears the text on the corresponding buttons
-     * in the GUI to reflect the undone move.
+     * Prepares a search of an AI player's moves ahead of its turn, while another player is thinking.
+     * The search copies the board and the rack, runs on one thread at minimum priority until it finishes
+     * or is cancelled, and keeps its moves only in the line caches. When the AI's turn comes with the same
+     * rack, its search reuses every line that the moves in between left unchanged, and regenerates only the rest.
+     * Boards the {@link OpeningBook} covers and endgames are not pondered, as their turns do not use the line caches.
+     * Must be called on the thread that owns the game state; preparing a ponder, or an AI turn, stops the last one.
      *
-     * @param board          A 2D character array representing the Scrabble board.
-     *                       Each cell holds a character representing a tile or '\0' if the cell is empty.
+     * @param lexicon The dictionary the AI plays with.
+     * @param game    The game, with the AI player whose turn is next as its player.
+     * @return the search, to run on a background thread; it does nothing if there is nothing to ponder.
      */
-    private static void undoAIMove(char[][] board) {
-        ArrayList<JButton> masterPlacedButtons = ScrabbleController.getMasterPlacedButtons();
-        for (JButton button : masterPlacedButtons) {
-            int row = (Integer) button.getClientProperty("row");
-            int col = (Integer) button.getClientProperty("col");
-            board[row][col] = '\0';
-            button.setText("");
+    public static Runnable preparePonder(Lexicon lexicon, TurnContext game) {
+        cancelPondering();
+        char[][] board = game.getBoard();
+        List<Character> aiTiles = game.getRack();
+        if (aiTiles.isEmpty() || OpeningBook.isOpening(board) || game.endgameOpponentTiles() != null) {
+            return () -> { };
         }
+        char[][] ponderBoard = new char[board.length][];
+        for (int row = 0; row < board.length; row++) {
+            ponderBoard[row] = board[row].clone();
+        }
+        CrossChecks crossChecks = new CrossChecks(game.crossChecks(lexicon));
+        List<Character> rack = new ArrayList<>(aiTiles);
+        SearchBudget budget = SearchBudget.untilCancelled();
+        currentPonder = budget;
+
+        return () -> {
+            Thread thread = Thread.currentThread();
+            int priority = thread.getPriority();
+            thread.setPriority(Thread.MIN_PRIORITY);
+            long start = System.nanoTime();
+            try {
+                findCandidateMoves(lexicon, ponderBoard, rack, crossChecks, budget, false);
+                System.out.println("AI pondered " + rack + " for " + (System.nanoTime() - start) / 1_000_000 + " ms"
+                        + (budget.isCancelled() ? " (stopped)." : "."));
+            } finally {
+                thread.setPriority(priority);
+                if (currentPonder == budget) {
+                    currentPonder = null;
+                }
+            }
+        };
+    }
 
-        ScrabbleController.clearMasterPlacedButtons(); // Clear the centralized list
+    /**
+     * Simulates an AI making a move on the board.
+     * The GADDAG-based {@link MoveGenerator} lists every legal move for the AI's tiles, ranked by equity
+     * (score plus the {@link LeaveTable} value of the tiles it keeps). The best few are then compared by
+     * {@link MoveSimulator} against random opponent racks, and the AI places the best one,
+     * falling back to the next best if the game's rules reject it. On an empty board the ranked moves
+     * come from the {@link OpeningBook} instead of a fresh search. While the bag holds a full rack, the AI
+     * exchanges tiles instead when keeping the best subset of its rack is worth more than its best move.
+     *
+     * <p>The game is given as a {@link TurnContext} and the result is returned as a {@link TurnResult}: the engine
+     * updates the board, the rack, the bag and the game's cross-checks and unseen-tile tracker, and leaves scores,
+     * history and display to the caller, so it runs without a display.
+     *
+     * @param game The game, with the AI as the player whose turn it is.
+     * @return what the AI did.
+     */
+    public static TurnResult makeMove(TurnContext game) {
+        return makeMove(WordValidity.getLexicon(), game);
     }
 
     /**
-     * Attempts to place a word on the Scrabble board for the AI player.
-     * This method randomly selects a position and orientation (horizontal/vertical) for the word
-     * and validates its placement according to the game's rules. If the placement is valid,
-     * the word is added to the board, and the AI's tiles are updated accordingly.
+     * Simulates an AI making a move on the board using the given lexicon for both
+     * move generation and word validation.
      *
-     * @param board    A 2D character array representing the Scrabble board.
-     *                 Each cell holds a character representing a tile or '\0' if the cell is empty.
-     * @param word     The word the AI is attempting to place on the board.
-     * @param aiTiles  A list of characters representing the AI player's available tiles.
-     *                 Tiles used for the word are removed, and new tiles are drawn to replace them.
-     * @return True if the word was successfully placed on the board; false otherwise.
+     * @param lexicon The dictionary the AI plays with.
+     * @param game    The game, with the AI as the player whose turn it is.
+     * @return what the AI did.
      */
-    private static boolean tryPlaceWordOnBoard(char[][] board, String word, List<Character> aiTiles, JLabel[] playerScoresLabels) {
-        Random random = new Random();
-        int boardSize = board.length;
+    public static TurnResult makeMove(Lexicon lexicon, TurnContext game) {
+        Turn turn = prepareTurn(lexicon, game);
+        return turn.commit(turn.search());
+    }
 
-        for (int attempt = 0; attempt < 150; attempt++) {
-            boolean isHorizontal = random.nextBoolean();
-            int row = random.nextInt(boardSize);
-            int col = random.nextInt(boardSize);
+    /**
+     * Simulates an AI making a move within a search budget. If the budget's deadline passes, the AI plays
+     * the best move found so far; if the budget is cancelled, it plays nothing. Once the bag is empty in a
+     * two-player game, the move is chosen by the {@link EndgameSolver} instead.
+     *
+     * @param lexicon The dictionary the AI plays with.
+     * @param game    The game, with the AI as the player whose turn it is.
+     * @param budget  The time allowed for the search and its cancellation signal.
+     * @return what the AI did; a pass if it was cancelled.
+     */
+    public static TurnResult makeMove(Lexicon lexicon, TurnContext game, SearchBudget budget) {
+        Turn turn = new Turn(lexicon, game, budget);
+        return turn.commit(turn.search());
+    }
 
-            // Clear previously placed tiles
-            ScrabbleController.clearMasterPlacedButtons();
-            ScrabbleController.clearPlacedTileCoordinates();
+    /**
+     * Starts an AI turn: copies the board, the cross-checks and the racks the search reads, and starts its time limit.
+     * Must be called on the thread that owns the game state (the Event Dispatch Thread in the GUI);
+     * the returned turn can then be searched on any thread, and {@link #cancelSearch} stops it.
+     *
+     * @param lexicon The dictionary the AI plays with.
+     * @param game    The game, with the AI as the player whose turn it is.
+     * @return the turn, ready to be searched.
+     */
+    public static Turn prepareTurn(Lexicon lexicon, TurnContext game) {
+        cancelPondering();
+        long limit = game.endgameOpponentTiles() != null ? getEndgameTimeLimit() : getMoveTimeLimit();
+        SearchBudget budget = limit == 0 ? SearchBudget.untilCancelled() : SearchBudget.ofMillis(limit);
+        Turn turn = new Turn(lexicon, game, budget);
+        currentSearch = budget;
+        return turn;
+    }
 
-            boolean isValidPlacement = true;
+    /**
+     * One AI turn, split so that the search can run off the Event Dispatch Thread.
+     * The turn is created from a copy of the game state, {@link #search} reads only that copy,
+     * and {@link #commit} plays the chosen move on the live board back on the thread that owns it.
+     */
+    public static final class Turn {
+        private final Lexicon lexicon;
+        private final TurnContext game;            // The live game, changed only by commit
+        private final char[][] searchBoard;
+        private final CrossChecks searchCrossChecks;
+        private final List<Character> rack;
+        private final List<Character> opponentTiles; // Null unless this is a two-player endgame
+        private final List<Character> unseenTiles;
+        private final boolean canExchange;
+        private final SearchBudget budget;
+        // Set by search when exchanging beats every move; read by commit once the search has handed over
+        private List<Character> exchange;
+
+        private Turn(Lexicon lexicon, TurnContext game, SearchBudget budget) {
+            this.lexicon = lexicon;
+            this.game = game;
+            char[][] board = game.getBoard();
+            this.searchBoard = new char[board.length][];
+            for (int row = 0; row < board.length; row++) {
+                searchBoard[row] = board[row].clone();
+            }
+            this.searchCrossChecks = new CrossChecks(game.crossChecks(lexicon));
+            this.rack = new ArrayList<>(game.getRack());
+            this.opponentTiles = game.endgameOpponentTiles();
+            this.unseenTiles = game.unseenTiles();
+            this.canExchange = game.getTileBag().canExchange();
+            this.budget = budget;
+        }
 
-            // Clear previous placements
-            ScrabbleController.clearPlacedTileCoordinates();
+        /**
+         * Retrieves the budget bounding this turn's search.
+         *
+         * @return the search budget.
+         */
+        public SearchBudget getBudget() {
+            return budget;
+        }
 
-            for (int i = 0; i < word.length(); i++) {
-                int currentRow = isHorizontal ? row : row + i;
-                int currentCol = isHorizontal ? col + i : col;
+        /**
+         * Checks whether the turn was cancelled, in which case no move should be played.
+         *
+         * @return true if the search was cancelled.
+         */
+        public boolean isCancelled() {
+            return budget.isCancelled();
+        }
 
-                if (currentRow >= boardSize || currentCol >= boardSize || board[currentRow][currentCol] != '\0') {
-                    isValidPlacement = false;
-                    break;
+        /**
+         * Searches for the AI's move on the copied game state. Safe to call on any thread, as it changes nothing
+         * the game can see. If exchanging some of the rack is worth more than any move, the turn remembers
+         * the tiles to exchange and no moves are returned.
+         *
+         * @return the moves to try, best first; empty to pass, exchange or if the search was cancelled.
+         */
+        public List<Move> search() {
+            try {
+                return chooseMoves();
+            } finally {
+                if (currentSearch == budget) {
+                    currentSearch = null;
                 }
-
-                JButton button = new JButton(String.valueOf(word.charAt(i)));
-                button.putClientProperty("row", currentRow);
-                button.putClientProperty("col", currentCol);
-                ScrabbleController.addToMasterPlacedButtons(button);
-                ScrabbleController.setPlacedTileCoordinates(new Point(currentRow, currentCol));
             }
+        }
 
-            if (!isValidPlacement) continue;
+        private List<Move> chooseMoves() {
+            if (rack.isEmpty()) {
+                System.out.println("AI has no tiles and will pass its turn.");
+                return new ArrayList<>();
+            }
 
-            if (!Helpers.isWordPlacementValid(ScrabbleController.isFirstTurn(), false)) {
-                continue;
+            if (opponentTiles != null) {
+                EndgameSolver.Result result = endgameSolver(lexicon).solve(searchBoard, rack, opponentTiles, budget);
+                Move best = result.getBestMove();
+                if (best == null && !budget.isCancelled()) {
+                    System.out.println("AI passes to finish the endgame.");
+                }
+                return best == null || budget.isCancelled() ? new ArrayList<>() : new ArrayList<>(List.of(best));
             }
 
-            // Place the word on the board
-            for (int i = 0; i < word.length(); i++) {
-                int currentRow = isHorizontal ? row : row + i;
-                int currentCol = isHorizontal ? col + i : col;
-                board[currentRow][currentCol] = word.charAt(i);
+            long start = System.nanoTime();
+            List<Move> moves = OpeningBook.isOpening(searchBoard)
+                    ? openingBook(lexicon).openings(rack, budget)
+                    : findCandidateMoves(lexicon, searchBoard, rack, searchCrossChecks, budget, true);
+            if (budget.isCancelled()) {
+                return new ArrayList<>();
             }
+            System.out.println("AI ranked " + moves.size() + " moves in " + (System.nanoTime() - start) / 1_000_000 + " ms"
+                    + (budget.isExhausted() ? " (time limit reached)." : "."));
 
-            // Validate words formed
-            Set<String> formedWords = Helpers.getAllWordsFormed();
-            if (!Helpers.areAllWordsValid(formedWords, false)) {
-                System.out.println("Invalid words formed: " + formedWords);
-                undoAIMove(board); // Undo placement
-                continue;
+            if (canExchange) {
+                exchange = chooseExchange(moves);
+                if (exchange != null) {
+                    return new ArrayList<>();
+                }
             }
 
-            ButtonCommands.updateScoresAndDisplayWords(formedWords, ScrabbleController.getView().wordHistoryArea, playerScoresLabels);
-            ScrabbleController.clearMasterPlacedButtons(); // Clear only after a valid move
-            Helpers.updateOldTileCoordinates(); // Update old tile coordinates after AI places its tiles
+            moves = simulateCandidates(lexicon, searchBoard, searchCrossChecks, rack, unseenTiles, moves, budget);
+            return budget.isCancelled() ? new ArrayList<>() : moves;
+        }
+
+        /**
+         * Compares the best move's equity with exchanging. An exchange scores nothing, so its equity is the leave
+         * value of the tiles kept, and the best tiles to keep take at most one leave lookup per subset of the rack.
+         * With no move to play, exchanging is weighed against passing, which keeps the whole rack.
+         *
+         * @return the tiles to exchange, or null if playing (or passing) is at least as good.
+         */
+        private List<Character> chooseExchange(List<Move> moves) {
+            long start = System.nanoTime();
+            LeaveTable leaves = leaveTable;
+            String keep = leaves.bestExchangeLeave(rack);
+            double exchangeEquity = leaves.value(keep);
+            double playEquity = moves.isEmpty()
+                    ? leaves.value(OpeningBook.rackKey(rack))
+                    : leaves.equity(moves.get(0), rack);
+            if (exchangeEquity <= playEquity) {
+                return null;
+            }
 
-            System.out.println("AI formed words: " + formedWords);
+            List<Character> tiles = new ArrayList<>(rack);
+            for (int i = 0; i < keep.length(); i++) {
+                char kept = keep.charAt(i);
+                for (int j = 0; j < tiles.size(); j++) {
+                    char tile = tiles.get(j);
+                    if (kept == '?' ? tile == ' ' || tile == '?' : Character.toUpperCase(tile) == kept) {
+                        tiles.remove(j);
+                        break;
+                    }
+                }
+            }
+            System.out.printf("AI chose to exchange %s and keep \"%s\" (equity %.1f against %.1f) in %d us.%n",
+                    tiles, keep, exchangeEquity, playEquity, (System.nanoTime() - start) / 1_000);
+            return tiles;
+        }
 
-            // Update AI tiles
-            for (char c : word.toCharArray()) {
-                aiTiles.remove((Character) c);
+        /**
+         * Plays the first of the searched moves that the game's rules accept on the live board, taking its tiles
+         * off the AI's rack and refilling it from the bag, or exchanges the tiles the search chose through the bag.
+         * The game's cross-checks and unseen-tile tracker, if it keeps them, are updated too; scores are left
+         * to the caller. Must be called on the thread that owns the game state.
+         *
+         * @param moves the moves returned by {@link #search}, best first.
+         * @return what the AI did; a pass if no move was accepted or the turn was cancelled.
+         */
+        public TurnResult commit(List<Move> moves) {
+            if (budget.isCancelled()) {
+                System.out.println("AI search was cancelled.");
+                return TurnResult.pass();
+            }
+            if (exchange != null) {
+                return commitExchange();
             }
-            List<Character> newTiles = ScrabbleController.tileBag.drawTiles(word.length());
-            aiTiles.addAll(newTiles);
+            if (moves.isEmpty()) {
+                return TurnResult.pass();
+            }
+            CrossChecks crossChecks = game.crossChecks(lexicon);
+            for (Move move : moves) {
+                TurnResult result = tryPlaceMoveOnBoard(lexicon, crossChecks, game, move);
+                if (result != null) {
+                    System.out.println("AI placed the word: " + move);
+                    return result;
+                }
+            }
+
+            System.out.println("AI could not form a valid word.");
+            return TurnResult.pass();
+        }
 
-            // Update the view
-            ScrabbleView view = ScrabbleController.getView();
-            view.updateBoardDisplay();
-            view.updateAITiles();
-            view.repaint();
-            view.revalidate();
+        private TurnResult commitExchange() {
+            List<Character> aiTiles = game.getRack();
+            List<Character> drawn;
+            try {
+                drawn = game.getTileBag().exchangeTiles(exchange);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                System.out.println("AI could not exchange: " + e.getMessage());
+                return TurnResult.pass();
+            }
+            for (char tile : exchange) {
+                aiTiles.remove(Character.valueOf(tile));
+            }
+            aiTiles.addAll(drawn);
+            UnseenTileTracker tracker = game.getUnseenTileTracker();
+            if (tracker != null) {
+                tracker.returned(game.getPlayerName(), exchange);
+                tracker.drew(game.getPlayerName(), drawn);
+            }
+            System.out.println("AI exchanged " + exchange + " for " + drawn + ".");
+            return TurnResult.exchanged(exchange, drawn);
+        }
+    }
 
-            return true;
+    /**
+     * Lists the AI's best moves by equity, searching board lines in parallel when allowed and more than one thread
+     * is configured.
+     */
+    private static List<Move> findCandidateMoves(Lexicon lexicon, char[][] board, List<Character> aiTiles, CrossChecks crossChecks,
+                                                 SearchBudget budget, boolean allowParallel) {
+        ParallelMoveSearch search;
+        synchronized (AIPlayer.class) {
+            if (searchParallelism == 1 || !allowParallel) {
+                search = null;
+            } else {
+                if (parallelSearch == null || parallelSearch.getLexicon() != lexicon
+                        || parallelSearch.getParallelism() != searchParallelism) {
+                    if (parallelSearch != null) {
+                        parallelSearch.close();
+                    }
+                    parallelSearch = new ParallelMoveSearch(lexicon, searchParallelism);
+                }
+                search = parallelSearch;
+            }
         }
 
-        return false;
+        LeaveTable leaves = leaveTable;
+        List<Character> rack = new ArrayList<>(aiTiles);
+        ToDoubleFunction<Move> equity = move -> leaves.equity(move, rack);
+        String rackKey = OpeningBook.rackKey(rack);
+        LineMoveCache cache = takeLineCache(lexicon, rackKey, board.length);
+        try {
+            if (search != null) {
+                return search.topMoves(board, rack, crossChecks, CANDIDATE_MOVES, budget, equity, cache);
+            }
+            List<Move> moves = new MoveGenerator(lexicon).generate(board, rack, crossChecks, budget, cache);
+            return ParallelMoveSearch.best(moves, equity, CANDIDATE_MOVES);
+        } finally {
+            synchronized (AIPlayer.class) {
+                if (lineCacheLexicon == lexicon) {
+                    lineCaches.put(rackKey, cache);
+                }
+            }
+        }
     }
 
+    /**
+     * Takes the line cache of the last search with the same rack out of the recent ones, or creates one.
+     * A rack that was searched before and has not changed since (after a pass, or when a turn is undone or searched
+     * again) then only regenerates the lines that moves have changed in the meantime.
+     */
+    private static synchronized LineMoveCache takeLineCache(Lexicon lexicon, String rackKey, int boardSize) {
+        if (lineCacheLexicon != lexicon) {
+            lineCaches.clear();
+            lineCacheLexicon = lexicon;
+        }
+        LineMoveCache cache = lineCaches.remove(rackKey);
+        return cache != null && cache.size() == boardSize ? cache : new LineMoveCache(boardSize);
+    }
 
     /**
-     * Forms a word using the AI's available tiles.
-     *
-     * @param aiTiles The AI's available tiles.
-     * @return A valid word formed using the tiles.
+     * Returns the endgame solver for a lexicon, keeping its transposition table from one turn to the next.
      */
-    private static String formWord(List<Character> aiTiles) {
-        StringBuilder word = new StringBuilder();
-        Random random = new Random();
+    private static synchronized EndgameSolver endgameSolver(Lexicon lexicon) {
+        if (endgameSolver == null || endgameSolver.getLexicon() != lexicon) {
+            endgameSolver = new EndgameSolver(lexicon);
+        }
+        return endgameSolver;
+    }
 
-        for (int attempt = 0; attempt < 100; attempt++) {
-            word.setLength(0);
-            int wordLength = Math.min(aiTiles.size(), random.nextInt(6) + 2);
+    /**
+     * Returns the opening book for a lexicon and the current leave table, loading resources/openings.bin the first time.
+     * Racks that are not in the book are added as they come up, so later games open with a lookup.
+     */
+    private static synchronized OpeningBook openingBook(Lexicon lexicon) {
+        if (openingBook == null || openingBook.getLexicon() != lexicon || openingBook.getLeaveTable() != leaveTable) {
+            openingBook = OpeningBook.loadOrEmpty(OPENING_BOOK_FILE, lexicon, leaveTable, CANDIDATE_MOVES);
+        }
+        return openingBook;
+    }
 
-            for (int i = 0; i < wordLength; i++) {
-                int tileIndex = random.nextInt(aiTiles.size());
-                word.append(aiTiles.get(tileIndex));
+    /**
+     * Reorders the best few candidates by simulating each a few turns ahead, if simulation is on and time remains.
+     * The candidates that were not simulated keep their place after the simulated ones.
+     */
+    private static List<Move> simulateCandidates(Lexicon lexicon, char[][] board, CrossChecks crossChecks,
+                                                 List<Character> aiTiles, List<Character> unseen, List<Move> moves,
+                                                 SearchBudget budget) {
+        MoveSimulator moveSimulator;
+        int count;
+        synchronized (AIPlayer.class) {
+            count = Math.min(simulationCandidates, moves.size());
+            if (count < 2 || budget.isExhausted()) {
+                return moves;
             }
-
-            if (WordValidity.isWordValid(word.toString())) {
-                return word.toString();
+            if (simulator == null || simulatorLexicon != lexicon || simulatorLeaves != leaveTable
+                    || simulatorParallelism != searchParallelism) {
+                if (simulator != null) {
+                    simulator.close();
+                }
+                simulator = new MoveSimulator(lexicon, leaveTable, searchParallelism, SIMULATION_PLIES, MAX_SIMULATION_SAMPLES);
+                simulatorLexicon = lexicon;
+                simulatorLeaves = leaveTable;
+                simulatorParallelism = searchParallelism;
             }
+            moveSimulator = simulator;
         }
 
-        return "";
+        List<Move> ranked = moveSimulator.rank(board, crossChecks, new ArrayList<>(aiTiles), unseen, moves.subList(0, count), budget);
+        ranked.addAll(moves.subList(count, moves.size()));
+        return ranked;
     }
 
+    /**
+     * Attempts to place a generated move on the Scrabble board for the AI player.
+     * The move's new tiles are placed in their squares and validated by {@link GameRules}, without any Swing components.
+     * If the placement is valid, the AI's tiles are replaced from the bag and the game's cross-checks and
+     * unseen-tile tracker are updated; otherwise the tiles are taken back off the board.
+     *
+     * @param lexicon     The dictionary used to validate the words formed.
+     * @param crossChecks The cross-checks of the board before the move, used to validate its perpendicular words.
+     * @param game        The game: its board, bag, and the AI's rack, from which the tiles used are removed
+     *                    and new tiles are drawn to replace them.
+     * @param move        The move the AI is attempting to place on the board.
+     * @return The placed move, its words, their points and the tiles drawn; null if the rules rejected it.
+     */
+    private static TurnResult tryPlaceMoveOnBoard(Lexicon lexicon, CrossChecks crossChecks, TurnContext game, Move move) {
+        char[][] board = game.getBoard();
+        // Place only the letters that are not already on the board
+        Placement placement = Placement.of(move, board);
+        placement.placeOn(board);
+
+        // Check the words in place on the board; strings are only built once the move is accepted
+        if (GameRules.placementProblem(board, placement, game.isFirstTurn()) != null
+                || !GameRules.arePlacedWordsValid(lexicon, crossChecks, board, placement)) {
+            placement.removeFrom(board);
+            return null;
+        }
+        Map<String, Integer> wordScores = GameRules.scoreWords(board, placement);
+        crossChecks.update(board, placement);
+
+        System.out.println("AI formed words: " + wordScores.keySet());
 
+        // Update AI tiles
+        List<Character> aiTiles = game.getRack();
+        for (int i = 0; i < placement.size(); i++) {
+            aiTiles.remove((Character) placement.tile(i));
+        }
+        List<Character> newTiles = game.getTileBag().drawTiles(placement.size());
+        aiTiles.addAll(newTiles);
+        UnseenTileTracker tracker = game.getUnseenTileTracker();
+        if (tracker != null) {
+            tracker.played(game.getPlayerName(), placement);
+            tracker.drew(game.getPlayerName(), newTiles);
+        }
+
+        return TurnResult.played(move, placement, wordScores, GameRules.bonus(placement), newTiles);
+    }
 }
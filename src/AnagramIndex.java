@@ -0,0 +1,125 @@
+package src;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The AnagramIndex class groups dictionary words by their sorted-letter signature
+ * (for example "act", "cat" and "tac" all share the signature "act").
+ *
+ * <p>The signatures themselves are compiled into a {@link Dawg}. Because every signature is sorted,
+ * each sub-multiset of a rack corresponds to at most one path through that graph, so all words
+ * a rack can form are found by a single pruned walk instead of trying every subset of tiles.
+ */
+public class AnagramIndex {
+    /** The tile used for blanks in {@link TileBag}; it matches any letter. */
+    public static final char BLANK = ' ';
+
+    private final Map<String, String[]> wordsBySignature;
+    private final Dawg signatures;
+
+    private AnagramIndex(Map<String, String[]> wordsBySignature, Dawg signatures) {
+        this.wordsBySignature = wordsBySignature;
+        this.signatures = signatures;
+    }
+
+    /**
+     * Builds an anagram index from normalized words.
+     *
+     * @param words the words to index.
+     * @return the compiled index.
+     */
+    public static AnagramIndex build(Collection<String> words) {
+        Map<String, List<String>> groups = new HashMap<>();
+        for (String word : words) {
+            groups.computeIfAbsent(signature(word), key -> new ArrayList<>()).add(word);
+        }
+
+        Map<String, String[]> wordsBySignature = new HashMap<>(groups.size() * 2);
+        for (Map.Entry<String, List<String>> group : groups.entrySet()) {
+            wordsBySignature.put(group.getKey(), group.getValue().stream().distinct().toArray(String[]::new));
+        }
+        return new AnagramIndex(wordsBySignature, Dawg.build(wordsBySignature.keySet()));
+    }
+
+    /**
+     * Returns the sorted-letter signature of a word.
+     *
+     * @param word the word, in any case.
+     * @return its letters in lower case, sorted.
+     */
+    public static String signature(CharSequence word) {
+        char[] letters = new char[word.length()];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = Character.toLowerCase(word.charAt(i));
+        }
+        Arrays.sort(letters);
+        return new String(letters);
+    }
+
+    /**
+     * Returns the words that use exactly the given letters.
+     *
+     * @param letters the letters to rearrange, in any case and order.
+     * @return the matching words; empty if there are none.
+     */
+    public List<String> anagramsOf(CharSequence letters) {
+        String[] words = wordsBySignature.get(signature(letters));
+        return words == null ? new ArrayList<>() : new ArrayList<>(Arrays.asList(words));
+    }
+
+    /**
+     * Returns every word that can be formed from some or all of the tiles in a rack.
+     * Each tile is used at most once; blank tiles ({@link #BLANK}) stand for any letter.
+     *
+     * @param rack the tiles available, in any case.
+     * @return the words that can be formed, grouped by signature.
+     */
+    public List<String> wordsFromRack(List<Character> rack) {
+        int[] counts = new int[26];
+        int blanks = 0;
+        for (char tile : rack) {
+            char letter = Character.toLowerCase(tile);
+            if (letter >= 'a' && letter <= 'z') {
+                counts[letter - 'a']++;
+            } else if (tile == BLANK) {
+                blanks++;
+            }
+        }
+
+        List<String> words = new ArrayList<>();
+        collect(Dawg.ROOT, new char[rack.size()], 0, counts, blanks, words);
+        return words;
+    }
+
+    /**
+     * Walks the signature graph, taking a letter only while the rack still holds it (or a blank).
+     * A real tile is always preferred over a blank, so each signature is reached at most once.
+     */
+    private void collect(int node, char[] path, int depth, int[] counts, int blanks, List<String> words) {
+        if (depth > 0 && signatures.isTerminal(node)) {
+            words.addAll(Arrays.asList(wordsBySignature.get(new String(path, 0, depth))));
+        }
+        if (depth == path.length) {
+            return;
+        }
+
+        int end = signatures.edgeEnd(node);
+        for (int e = signatures.edgeStart(node); e < end; e++) {
+            char letter = signatures.edgeLetter(e);
+            int index = letter - 'a';
+            path[depth] = letter;
+            if (index >= 0 && index < 26 && counts[index] > 0) {
+                counts[index]--;
+                collect(signatures.edgeTarget(e), path, depth + 1, counts, blanks, words);
+                counts[index]++;
+            } else if (blanks > 0) {
+                collect(signatures.edgeTarget(e), path, depth + 1, counts, blanks - 1, words);
+            }
+        }
+    }
+}
@@ -37,43 +37,48 @@ public class ButtonCommands {
         boolean isFirstTurn = ScrabbleController.isFirstTurn();
         ArrayList<JButton> placedButtons = ScrabbleController.getMasterPlacedButtons();
 
-        if (!Helpers.isWordPlacementValid(isFirstTurn, true)) {
+        Lexicon lexicon = ScrabbleController.getLexicon();
+
+        if (!Helpers.isWordPlacementValid(lexicon, isFirstTurn, true)) {
             ScrabbleController.clearMasterPlacedButtons();
             clear(playerTileButtons);
             return;
         }
 
-        Set<String> uniqueWordsFormed = Helpers.getAllWordsFormed();
+        Placement placement = Helpers.getCurrentPlacement();
+        Set<String> uniqueWordsFormed = new HashSet<>(GameRules.wordsFormed(ScrabbleController.board, placement));
 
         // Validate the words
-        if (!Helpers.areAllWordsValid(uniqueWordsFormed, true)) {
+        if (!Helpers.areAllWordsValid(lexicon, uniqueWordsFormed, true)) {
             resetInvalidPlacement(playerTileButtons, placedButtons);
             return;
         }
 
-        updateScoresAndDisplayWords(uniqueWordsFormed, wordHistoryArea, playerScoresLabels);
+        updateScoresAndDisplayWords(GameRules.scoreWords(ScrabbleController.board, placement), GameRules.bonus(placement),
+                wordHistoryArea, playerScoresLabels);
 
         String currentPlayer = ScrabbleController.getCurrentPlayerName();
         List<Character> currentPlayerTiles = ScrabbleController.getPlayerTilesMap().get(currentPlayer);
 
         System.out.println("unique formed words: " + uniqueWordsFormed);
 
-        for (String word : uniqueWordsFormed) {
-            for (char letter : word.toCharArray()) { // Loop through each letter in the word
-                if (currentPlayerTiles.remove((Character) letter)) {
-                    System.out.println("Removed tile: " + letter);
-                } else {
-                    System.out.println("Warning: Tile '" + letter + "' not found in player tiles.");
-                }
+        for (int i = 0; i < placement.size(); i++) {
+            char letter = placement.tile(i);
+            if (currentPlayerTiles.remove((Character) letter)) {
+                System.out.println("Removed tile: " + letter);
+            } else {
+                System.out.println("Warning: Tile '" + letter + "' not found in player tiles.");
             }
         }
 
         System.out.println("After removing tiles, player tiles: " + currentPlayerTiles);
 
 
-        List<Character> newTiles = ScrabbleController.tileBag.drawTiles(placedButtons.size());
+        List<Character> newTiles = ScrabbleController.tileBag.drawTiles(placement.size());
         currentPlayerTiles.addAll(newTiles);
         System.out.println("New Tiles Drawn: " + newTiles);
+        ScrabbleController.updateUnseenTilesAfterPlay(currentPlayer, placement);
+        ScrabbleController.updateUnseenTilesAfterDraw(currentPlayer, newTiles);
 
         view.updatePlayerTiles();
 
@@ -81,6 +86,7 @@ public class ButtonCommands {
             ScrabbleController.setFirstTurnCompleted();
         }
 
+        ScrabbleController.updateCrossChecks(ScrabbleController.getPlacedTileCoordinates());
         ScrabbleController.addPlacedTiles();
         ScrabbleController.clearMasterPlacedButtons();
         Helpers.updateOldTileCoordinates();
@@ -123,6 +129,7 @@ public class ButtonCommands {
 
         // Clear the master placed buttons list
         ScrabbleController.clearMasterPlacedButtons();
+        clearPlacedTileCoordinates();
         System.out.println("Invalid placement cleared. Tiles returned to the rack.");
     }
 
@@ -155,6 +162,7 @@ public class ButtonCommands {
             ScrabbleController.board[row][col] = '\0';
         }
 
+        ScrabbleController.clearMasterPlacedButtons();
         clearPlacedTileCoordinates();
 
         for (JButton tileButton : playerTileButtons) {
@@ -166,27 +174,43 @@ public class ButtonCommands {
 
 
     /**
-     * Updates the word history and player scores after a valid turn.
-//     *
+     * Updates the word history and player scores after a valid turn, scoring the words
+     * against the tiles placed this turn.
+     *
+     * @param formedWords        the words formed this turn.
      * @param wordHistoryArea    the JTextArea where the history is displayed.
      * @param playerScoresLabels the array of JLabels displaying players' scores.
      */
     public static void updateScoresAndDisplayWords(Set<String> formedWords, JTextArea wordHistoryArea, JLabel[] playerScoresLabels) {
-        int currentPlayerIndex = ScrabbleController.getCurrentPlayerIndex();
-        int turnScore = 0;
-
-        // Track already scored words to avoid duplicates
-        Set<String> scoredWords = new HashSet<>();
-
+        Placement placement = Helpers.getCurrentPlacement();
+        Map<String, Integer> scores = GameRules.scoreWords(ScrabbleController.board, placement);
+        Map<String, Integer> wordScores = new LinkedHashMap<>();
         for (String word : formedWords) {
-            if (!scoredWords.contains(word)) {
-                ScoreCalculation scoreCalc = new ScoreCalculation(word);
-                int wordScore = scoreCalc.getTotalScore();
-                turnScore += wordScore;
+            wordScores.put(word, scores.getOrDefault(word, 0));
+        }
+        updateScoresAndDisplayWords(wordScores, GameRules.bonus(placement), wordHistoryArea, playerScoresLabels);
+    }
 
-                wordHistoryArea.append(ScrabbleController.getCurrentPlayerName() + " placed: " + word + " (" + wordScore + " points)\n");
-                scoredWords.add(word); // Mark word as scored
-            }
+    /**
+     * Updates the word history and player scores after a valid turn.
+     *
+     * @param wordScores         the words formed this turn and their points, as scored by {@link GameRules}.
+     * @param bonus              the points earned beyond the words, such as the bingo bonus.
+     * @param wordHistoryArea    the JTextArea where the history is displayed.
+     * @param playerScoresLabels the array of JLabels displaying players' scores.
+     */
+    public static void updateScoresAndDisplayWords(Map<String, Integer> wordScores, int bonus, JTextArea wordHistoryArea,
+                                                   JLabel[] playerScoresLabels) {
+        int currentPlayerIndex = ScrabbleController.getCurrentPlayerIndex();
+        int turnScore = bonus;
+
+        for (Map.Entry<String, Integer> entry : wordScores.entrySet()) {
+            turnScore += entry.getValue();
+            wordHistoryArea.append(ScrabbleController.getCurrentPlayerName() + " placed: " + entry.getKey()
+                    + " (" + entry.getValue() + " points)\n");
+        }
+        if (bonus > 0) {
+            wordHistoryArea.append(ScrabbleController.getCurrentPlayerName() + " used all seven tiles (" + bonus + " points)\n");
         }
 
         // Add the score to the current player's total
@@ -0,0 +1,245 @@
+package src;
+
+import java.awt.Point;
+import java.util.Collection;
+
+/**
+ * The CrossChecks class records, for every empty square of a board, which letters may be placed there
+ * without forming an invalid perpendicular word, as a 26-bit mask (bit 0 for 'A' to bit 25 for 'Z').
+ *
+ * <p>There are two tables. The across table holds the letters allowed in a square by the tiles above and below it,
+ * which is what constrains a word played along a row; the down table holds the letters allowed by the tiles
+ * to its left and right. Alongside each mask the table keeps the face value of those perpendicular tiles,
+ * so a move can be scored without reading them again.
+ *
+ * <p>Placing a tile only changes the squares at the two ends of the row run and column run it joins,
+ * so {@link #update} recomputes just those squares after a move is committed instead of the whole board.
+ * A table is tied to the lexicon it was computed with and is not safe for concurrent updates.
+ */
+public class CrossChecks {
+    /** Mask allowing every letter, used for squares with no perpendicular neighbours. */
+    public static final int ALL_LETTERS = (1 << 26) - 1;
+    /** Cross score of a square that does not touch a perpendicular word. */
+    public static final int NO_CROSS_WORD = -1;
+
+    private final Lexicon lexicon;
+    private final Dawg dawg;
+    private final int size;
+    // Indexed [horizontal ? 0 : 1][row * size + col]
+    private final int[][] masks;
+    private final int[][] scores;
+
+    /**
+     * Computes the cross-checks of every square on a board.
+     *
+     * @param lexicon the dictionary perpendicular words must come from.
+     * @param board   the board; '\0' marks an empty square.
+     */
+    public CrossChecks(Lexicon lexicon, char[][] board) {
+        this.lexicon = lexicon;
+        this.dawg = lexicon.dawg();
+        this.size = board.length;
+        this.masks = new int[2][size * size];
+        this.scores = new int[2][size * size];
+        recomputeAll(board);
+    }
+
+    /**
+     * Creates a copy of another table, for searches that try a move and then take it back.
+     *
+     * @param other the table to copy.
+     */
+    public CrossChecks(CrossChecks other) {
+        this.lexicon = other.lexicon;
+        this.dawg = other.dawg;
+        this.size = other.size;
+        this.masks = new int[2][size * size];
+        this.scores = new int[2][size * size];
+        copyFrom(other);
+    }
+
+    /**
+     * Overwrites this table with another one of the same board size, without allocating.
+     *
+     * @param other the table to copy.
+     */
+    public void copyFrom(CrossChecks other) {
+        for (int table = 0; table < 2; table++) {
+            System.arraycopy(other.masks[table], 0, masks[table], 0, masks[table].length);
+            System.arraycopy(other.scores[table], 0, scores[table], 0, scores[table].length);
+        }
+    }
+
+    /**
+     * Recomputes every square, for when the board has been replaced rather than added to (undo, redo, a new game).
+     *
+     * @param board the board; '\0' marks an empty square.
+     */
+    public void recomputeAll(char[][] board) {
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                compute(board, row, col, true);
+                compute(board, row, col, false);
+            }
+        }
+    }
+
+    /**
+     * Brings the table up to date after tiles have been committed to the board.
+     * Only the placed squares and the empty squares at the ends of the runs they joined are recomputed.
+     *
+     * @param board       the board, with the new tiles already on it.
+     * @param placedTiles the (row, col) coordinates of the newly placed tiles.
+     */
+    public void update(char[][] board, Collection<Point> placedTiles) {
+        for (Point tile : placedTiles) {
+            updateAround(board, tile.x, tile.y);
+        }
+    }
+
+    /**
+     * Brings the table up to date after a placement has been committed to the board.
+     *
+     * @param board     the board, with the new tiles already on it.
+     * @param placement the newly placed tiles.
+     */
+    public void update(char[][] board, Placement placement) {
+        for (int i = 0; i < placement.size(); i++) {
+            updateAround(board, placement.row(i), placement.col(i));
+        }
+    }
+
+    /**
+     * Recomputes a newly placed square and the empty squares at the ends of the runs through it.
+     */
+    private void updateAround(char[][] board, int row, int col) {
+        compute(board, row, col, true);
+        compute(board, row, col, false);
+
+        // The column run through the tile constrains across plays at its two ends
+        int top = row;
+        while (top > 0 && board[top - 1][col] != '\0') top--;
+        int bottom = row;
+        while (bottom < size - 1 && board[bottom + 1][col] != '\0') bottom++;
+        if (top > 0) compute(board, top - 1, col, true);
+        if (bottom < size - 1) compute(board, bottom + 1, col, true);
+
+        // The row run through the tile constrains down plays at its two ends
+        int left = col;
+        while (left > 0 && board[row][left - 1] != '\0') left--;
+        int right = col;
+        while (right < size - 1 && board[row][right + 1] != '\0') right++;
+        if (left > 0) compute(board, row, left - 1, false);
+        if (right < size - 1) compute(board, row, right + 1, false);
+    }
+
+    /**
+     * Returns the letters that may be placed in a square as part of a play in the given direction.
+     *
+     * @param horizontal true for a play along the row, false for a play down the column.
+     * @param row        the square's row.
+     * @param col        the square's column.
+     * @return the 26-bit mask of allowed letters; 0 for an occupied square.
+     */
+    public int allowed(boolean horizontal, int row, int col) {
+        return masks[horizontal ? 0 : 1][row * size + col];
+    }
+
+    /**
+     * Checks whether a letter may be placed in a square as part of a play in the given direction.
+     *
+     * @param horizontal true for a play along the row, false for a play down the column.
+     * @param row        the square's row.
+     * @param col        the square's column.
+     * @param letter     the letter, in any case.
+     * @return true if the perpendicular word it forms (if any) is valid.
+     */
+    public boolean allows(boolean horizontal, int row, int col, char letter) {
+        char lower = Character.toLowerCase(letter);
+        return lower >= 'a' && lower <= 'z' && (allowed(horizontal, row, col) & (1 << (lower - 'a'))) != 0;
+    }
+
+    /**
+     * Returns the face value of the perpendicular tiles a play in the given direction would join at a square.
+     *
+     * @param horizontal true for a play along the row, false for a play down the column.
+     * @param row        the square's row.
+     * @param col        the square's column.
+     * @return the points of the perpendicular tiles, or {@link #NO_CROSS_WORD} if there are none.
+     */
+    public int crossScore(boolean horizontal, int row, int col) {
+        return scores[horizontal ? 0 : 1][row * size + col];
+    }
+
+    /**
+     * Returns the lexicon this table was computed with.
+     *
+     * @return the lexicon.
+     */
+    public Lexicon lexicon() {
+        return lexicon;
+    }
+
+    /**
+     * Computes one square's mask for plays in one direction by walking the perpendicular run
+     * through the square: the letters before it once, then each candidate letter followed by the letters after it.
+     */
+    private void compute(char[][] board, int row, int col, boolean horizontal) {
+        int index = row * size + col;
+        int table = horizontal ? 0 : 1;
+        if (board[row][col] != '\0') {
+            masks[table][index] = 0;
+            scores[table][index] = NO_CROSS_WORD;
+            return;
+        }
+
+        // Perpendicular to the play: down the column for across plays, along the row for down plays
+        int line = horizontal ? col : row;
+        int pos = horizontal ? row : col;
+        int before = pos;
+        while (before > 0 && letterAt(board, horizontal, line, before - 1) != '\0') before--;
+        int after = pos;
+        while (after < size - 1 && letterAt(board, horizontal, line, after + 1) != '\0') after++;
+        if (before == pos && after == pos) {
+            masks[table][index] = ALL_LETTERS;
+            scores[table][index] = NO_CROSS_WORD;
+            return;
+        }
+
+        int node = Dawg.ROOT;
+        int score = 0;
+        for (int i = before; i < pos; i++) {
+            char letter = letterAt(board, horizontal, line, i);
+            if (node >= 0) node = dawg.child(node, Character.toLowerCase(letter));
+            score += ScoreCalculation.tileValue(letter);
+        }
+        for (int i = pos + 1; i <= after; i++) {
+            score += ScoreCalculation.tileValue(letterAt(board, horizontal, line, i));
+        }
+
+        int mask = 0;
+        if (node >= 0) {
+            int end = dawg.edgeEnd(node);
+            for (int e = dawg.edgeStart(node); e < end; e++) {
+                char letter = dawg.edgeLetter(e);
+                if (letter < 'a' || letter > 'z') continue;
+                int next = dawg.edgeTarget(e);
+                for (int i = pos + 1; i <= after && next >= 0; i++) {
+                    next = dawg.child(next, Character.toLowerCase(letterAt(board, horizontal, line, i)));
+                }
+                if (next >= 0 && dawg.isTerminal(next)) {
+                    mask |= 1 << (letter - 'a');
+                }
+            }
+        }
+        masks[table][index] = mask;
+        scores[table][index] = score;
+    }
+
+    /**
+     * Reads a square of the perpendicular line: column {@code line} for across plays, row {@code line} for down plays.
+     */
+    private static char letterAt(char[][] board, boolean horizontal, int line, int pos) {
+        return horizontal ? board[pos][line] : board[line][pos];
+    }
+}
@@ -0,0 +1,572 @@
+package src;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The Dawg class is a minimized directed acyclic word graph built from a word list.
+ * Common prefixes and common suffixes are shared, so the whole dictionary fits in a few flat arrays.
+ *
+ * <p>Nodes and edges are addressed by int indices. The children of a node are stored contiguously
+ * and sorted by letter, which lets move generation walk the graph and prune dead branches:
+ * <pre>
+ *     for (int e = dawg.edgeStart(node); e &lt; dawg.edgeEnd(node); e++) {
+ *         char letter = dawg.edgeLetter(e);
+ *         int next = dawg.edgeTarget(e);
+ *     }
+ * </pre>
+ *
+ * <p>The arrays can live on the heap (after {@link #build}) or directly inside a mapped lexicon file
+ * (after {@link #readFrom}); lookups read the same way from either.
+ */
+public class Dawg {
+    /** Index of the root node; every word starts here. */
+    public static final int ROOT = 0;
+    /** Pattern character that matches any single letter in {@link #match}. */
+    public static final char WILDCARD = '?';
+
+    private static final int TERMINAL_FLAG = 0x80000000;
+    private static final int EDGE_MASK = 0x7FFFFFFF;
+
+    // nodes[i] holds the index of node i's first edge, with the high bit set when a word ends at i.
+    // nodes[nodeCount] is a sentinel so that the edges of i are nodes[i] .. nodes[i + 1].
+    private final IntBuffer nodes;
+    private final CharBuffer edgeLetters;
+    private final IntBuffer edgeTargets;
+    private final int wordCount;
+
+    private Dawg(IntBuffer nodes, CharBuffer edgeLetters, IntBuffer edgeTargets, int wordCount) {
+        this.nodes = nodes;
+        this.edgeLetters = edgeLetters;
+        this.edgeTargets = edgeTargets;
+        this.wordCount = wordCount;
+    }
+
+    /**
+     * Builds a minimized DAWG from the given words.
+     * The words are stored exactly as given, so callers should normalize them first.
+     *
+     * @param words the words to store; duplicates and empty strings are ignored.
+     * @return the compiled graph.
+     */
+    public static Dawg build(Collection<String> words) {
+        List<String> sorted = new ArrayList<>(words);
+        sorted.sort(null);
+
+        Builder builder = new Builder();
+        String previous = null;
+        for (String word : sorted) {
+            if (word.isEmpty() || word.equals(previous)) {
+                continue;
+            }
+            builder.add(word);
+            previous = word;
+        }
+        return builder.finish();
+    }
+
+    /**
+     * Checks whether the given string is a complete word in the graph.
+     *
+     * @param word the word to look up.
+     * @return true if the word was in the source list, false otherwise.
+     */
+    public boolean isWord(String word) {
+        int node = walk(word);
+        return node >= 0 && isTerminal(node);
+    }
+
+    /**
+     * Checks whether a run of characters is a complete word, folding each character to lower case
+     * as it is read. Nothing is allocated, so this suits hot loops that scan the board.
+     *
+     * @param buf the characters to read, in any case.
+     * @param off the index of the first character.
+     * @param len the number of characters.
+     * @return true if the lower-cased characters spell a word in the graph.
+     */
+    public boolean containsIgnoreCase(char[] buf, int off, int len) {
+        int node = ROOT;
+        for (int i = off; i < off + len && node >= 0; i++) {
+            node = child(node, Character.toLowerCase(buf[i]));
+        }
+        return node >= 0 && isTerminal(node);
+    }
+
+    /**
+     * Checks whether a character sequence is a complete word, folding each character to lower case
+     * as it is read. Nothing is allocated.
+     *
+     * @param word the characters to read, in any case.
+     * @return true if the lower-cased characters spell a word in the graph.
+     */
+    public boolean containsIgnoreCase(CharSequence word) {
+        int node = ROOT;
+        for (int i = 0; i < word.length() && node >= 0; i++) {
+            node = child(node, Character.toLowerCase(word.charAt(i)));
+        }
+        return node >= 0 && isTerminal(node);
+    }
+
+    /**
+     * Checks whether at least one word starts with the given prefix.
+     * A complete word counts as a prefix of itself.
+     *
+     * @param prefix the prefix to look up.
+     * @return true if some word continues from this prefix, false otherwise.
+     */
+    public boolean isPrefix(String prefix) {
+        return walk(prefix) >= 0;
+    }
+
+    /**
+     * Follows the letters of a string from the root.
+     *
+     * @param letters the letters to follow.
+     * @return the node reached, or -1 if the path leaves the graph.
+     */
+    public int walk(String letters) {
+        int node = ROOT;
+        for (int i = 0; i < letters.length() && node >= 0; i++) {
+            node = child(node, letters.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Lists every word in the graph in sorted order.
+     *
+     * @return all words spelled by paths from the root to a terminal node.
+     */
+    public List<String> words() {
+        List<String> words = new ArrayList<>(wordCount);
+        collectWords(ROOT, new StringBuilder(), words);
+        return words;
+    }
+
+    private void collectWords(int node, StringBuilder prefix, List<String> words) {
+        if (isTerminal(node)) {
+            words.add(prefix.toString());
+        }
+        int end = edgeEnd(node);
+        for (int e = edgeStart(node); e < end; e++) {
+            prefix.append(edgeLetter(e));
+            collectWords(edgeTarget(e), prefix, words);
+            prefix.setLength(prefix.length() - 1);
+        }
+    }
+
+    /**
+     * Streams the words that fit a fixed-length pattern, where {@link #WILDCARD} matches any letter
+     * and every other character must appear at that offset. For example {@code "c?t"} matches
+     * "cat" and "cut", and {@code "???s?"} matches five-letter words with an S at offset 3.
+     *
+     * <p>Words are produced lazily in sorted order by a depth-first walk that only follows edges
+     * allowed by the pattern, so a caller that stops after a few matches does no further work.
+     *
+     * @param pattern the pattern; letters are compared as given, so normalize them first.
+     * @return a sequential stream of matching words.
+     */
+    public Stream<String> match(CharSequence pattern) {
+        Iterator<String> matches = new PatternIterator(pattern);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(matches,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Returns the node reached by following a single letter from a node.
+     *
+     * @param node   the node to start from.
+     * @param letter the edge letter to follow.
+     * @return the child node, or -1 if there is no edge with that letter.
+     */
+    public int child(int node, char letter) {
+        int end = edgeEnd(node);
+        for (int e = edgeStart(node); e < end; e++) {
+            char edgeLetter = edgeLetters.get(e);
+            if (edgeLetter == letter) {
+                return edgeTargets.get(e);
+            }
+            if (edgeLetter > letter) {
+                break; // Edges are sorted, so the letter cannot appear later
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether a word ends at the given node.
+     *
+     * @param node the node to check.
+     * @return true if the path from the root to this node spells a word.
+     */
+    public boolean isTerminal(int node) {
+        return (nodes.get(node) & TERMINAL_FLAG) != 0;
+    }
+
+    /**
+     * Returns the index of the first outgoing edge of a node.
+     *
+     * @param node the node whose edges are wanted.
+     * @return the first edge index (inclusive).
+     */
+    public int edgeStart(int node) {
+        return nodes.get(node) & EDGE_MASK;
+    }
+
+    /**
+     * Returns the index just past the last outgoing edge of a node.
+     *
+     * @param node the node whose edges are wanted.
+     * @return the last edge index (exclusive).
+     */
+    public int edgeEnd(int node) {
+        return nodes.get(node + 1) & EDGE_MASK;
+    }
+
+    /**
+     * Returns the letter carried by an edge.
+     *
+     * @param edge the edge index.
+     * @return the edge letter.
+     */
+    public char edgeLetter(int edge) {
+        return edgeLetters.get(edge);
+    }
+
+    /**
+     * Returns the node an edge points to.
+     *
+     * @param edge the edge index.
+     * @return the target node.
+     */
+    public int edgeTarget(int edge) {
+        return edgeTargets.get(edge);
+    }
+
+    /**
+     * Returns the number of distinct words stored in the graph.
+     *
+     * @return the word count.
+     */
+    public int wordCount() {
+        return wordCount;
+    }
+
+    /**
+     * Returns the number of nodes in the minimized graph.
+     *
+     * @return the node count.
+     */
+    public int nodeCount() {
+        return nodes.capacity() - 1;
+    }
+
+    /**
+     * Returns the number of edges in the minimized graph.
+     *
+     * @return the edge count.
+     */
+    public int edgeCount() {
+        return edgeTargets.capacity();
+    }
+
+    /**
+     * Returns the size of the graph arrays, whether they are on the heap or in a mapped file.
+     *
+     * @return the size in bytes.
+     */
+    public long sizeInBytes() {
+        return 4L * nodes.capacity() + 2L * edgeLetters.capacity() + 4L * edgeTargets.capacity();
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeTo} will write.
+     *
+     * @return the serialized size in bytes, padded to a multiple of four.
+     */
+    public int serializedSize() {
+        int letterBytes = (2 * edgeLetters.capacity() + 3) & ~3;
+        return 12 + 4 * nodes.capacity() + 4 * edgeTargets.capacity() + letterBytes;
+    }
+
+    /**
+     * Writes the graph arrays to a buffer in the little-endian layout read by {@link #readFrom}:
+     * word count, node entry count, edge count, node entries, edge targets, then edge letters
+     * padded to a four-byte boundary.
+     *
+     * @param out the buffer to write to; its position is advanced past the graph.
+     */
+    public void writeTo(ByteBuffer out) {
+        out.order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(wordCount);
+        out.putInt(nodes.capacity());
+        out.putInt(edgeTargets.capacity());
+        for (int i = 0; i < nodes.capacity(); i++) {
+            out.putInt(nodes.get(i));
+        }
+        for (int i = 0; i < edgeTargets.capacity(); i++) {
+            out.putInt(edgeTargets.get(i));
+        }
+        for (int i = 0; i < edgeLetters.capacity(); i++) {
+            out.putChar(edgeLetters.get(i));
+        }
+        while (out.position() % 4 != 0) {
+            out.put((byte) 0);
+        }
+    }
+
+    /**
+     * Wraps a graph written by {@link #writeTo} without copying it.
+     * When the buffer is a mapped file, every lookup reads straight from the mapping.
+     *
+     * @param in the buffer to read from; its position is advanced past the graph.
+     * @return the graph backed by the buffer.
+     * @throws IllegalArgumentException if the buffer is too short for the sizes it declares.
+     */
+    public static Dawg readFrom(ByteBuffer in) {
+        in.order(ByteOrder.LITTLE_ENDIAN);
+        int wordCount = in.getInt();
+        int nodeEntries = in.getInt();
+        int edgeCount = in.getInt();
+        int letterBytes = (2 * edgeCount + 3) & ~3;
+        if (nodeEntries < 1 || edgeCount < 0
+                || in.remaining() < 4L * nodeEntries + 4L * edgeCount + letterBytes) {
+            throw new IllegalArgumentException("Lexicon data is truncated or corrupt.");
+        }
+
+        IntBuffer nodes = slice(in, 4 * nodeEntries).asIntBuffer();
+        IntBuffer targets = slice(in, 4 * edgeCount).asIntBuffer();
+        CharBuffer letters = slice(in, 2 * edgeCount).asCharBuffer();
+        in.position(in.position() + letterBytes - 2 * edgeCount);
+        return new Dawg(nodes, letters, targets, wordCount);
+    }
+
+    private static ByteBuffer slice(ByteBuffer in, int length) {
+        ByteBuffer section = in.slice();
+        section.limit(length);
+        section.order(ByteOrder.LITTLE_ENDIAN);
+        in.position(in.position() + length);
+        return section;
+    }
+
+    /**
+     * Walks the graph depth-first along a pattern, keeping the current path in small arrays
+     * so that each call to {@link #next} resumes where the previous match left off.
+     */
+    private class PatternIterator implements Iterator<String> {
+        private final char[] pattern;
+        private final char[] letters;
+        private final int[] pathNodes;
+        private final int[] cursors;
+        private int depth;
+        private String next;
+
+        PatternIterator(CharSequence pattern) {
+            this.pattern = pattern.toString().toCharArray();
+            this.letters = new char[this.pattern.length];
+            this.pathNodes = new int[this.pattern.length + 1];
+            this.cursors = new int[this.pattern.length + 1];
+            pathNodes[0] = ROOT;
+            cursors[0] = -1;
+            next = findNext();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            String result = next;
+            next = findNext();
+            return result;
+        }
+
+        private String findNext() {
+            while (depth >= 0) {
+                int node = pathNodes[depth];
+                if (depth == pattern.length) {
+                    depth--;
+                    if (isTerminal(node)) {
+                        return new String(letters);
+                    }
+                    continue;
+                }
+
+                char wanted = pattern[depth];
+                int e = cursors[depth] < 0 ? edgeStart(node) : cursors[depth];
+                int end = edgeEnd(node);
+                while (e < end && wanted != WILDCARD && edgeLetter(e) != wanted) {
+                    e = edgeLetter(e) > wanted ? end : e + 1; // Sorted edges: stop once past the letter
+                }
+                if (e >= end) {
+                    depth--;
+                    continue;
+                }
+
+                cursors[depth] = e + 1;
+                letters[depth] = edgeLetter(e);
+                pathNodes[depth + 1] = edgeTarget(e);
+                cursors[depth + 1] = -1;
+                depth++;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Incrementally builds a minimal graph from words supplied in sorted order.
+     * Nodes along the previous word stay "unchecked" until the next word diverges from them,
+     * at which point they are merged with an equivalent registered node or registered themselves.
+     */
+    private static class Builder {
+        private final BuildNode root = new BuildNode();
+        private final Map<BuildNode, BuildNode> register = new HashMap<>();
+        private final List<BuildNode> path = new ArrayList<>();
+        private String previousWord = "";
+        private int wordCount;
+
+        Builder() {
+            path.add(root);
+        }
+
+        void add(String word) {
+            int common = 0;
+            int max = Math.min(word.length(), previousWord.length());
+            while (common < max && word.charAt(common) == previousWord.charAt(common)) {
+                common++;
+            }
+
+            minimize(common);
+
+            BuildNode node = path.get(common);
+            for (int i = common; i < word.length(); i++) {
+                BuildNode next = new BuildNode();
+                node.addChild(word.charAt(i), next);
+                path.add(next);
+                node = next;
+            }
+            node.terminal = true;
+            previousWord = word;
+            wordCount++;
+        }
+
+        Dawg finish() {
+            minimize(0);
+
+            // Number the nodes depth-first so that every node's edges are written contiguously
+            Map<BuildNode, Integer> ids = new IdentityHashMap<>();
+            List<BuildNode> order = new ArrayList<>();
+            ids.put(root, 0);
+            order.add(root);
+            int edgeCount = 0;
+            for (int i = 0; i < order.size(); i++) {
+                BuildNode node = order.get(i);
+                edgeCount += node.size;
+                for (int c = 0; c < node.size; c++) {
+                    BuildNode child = node.children[c];
+                    if (!ids.containsKey(child)) {
+                        ids.put(child, order.size());
+                        order.add(child);
+                    }
+                }
+            }
+
+            int[] nodes = new int[order.size() + 1];
+            char[] letters = new char[edgeCount];
+            int[] targets = new int[edgeCount];
+            int edge = 0;
+            for (int i = 0; i < order.size(); i++) {
+                BuildNode node = order.get(i);
+                nodes[i] = edge | (node.terminal ? TERMINAL_FLAG : 0);
+                for (int c = 0; c < node.size; c++) {
+                    letters[edge] = node.letters[c];
+                    targets[edge] = ids.get(node.children[c]);
+                    edge++;
+                }
+            }
+            nodes[order.size()] = edge;
+            return new Dawg(IntBuffer.wrap(nodes), CharBuffer.wrap(letters), IntBuffer.wrap(targets), wordCount);
+        }
+
+        /**
+         * Replaces or registers every node on the previous word's path below the given depth.
+         */
+        private void minimize(int depth) {
+            for (int i = path.size() - 1; i > depth; i--) {
+                BuildNode child = path.get(i);
+                BuildNode parent = path.get(i - 1);
+                BuildNode existing = register.get(child);
+                if (existing != null) {
+                    parent.children[parent.size - 1] = existing;
+                } else {
+                    register.put(child, child);
+                }
+                path.remove(i);
+            }
+        }
+    }
+
+    /**
+     * A mutable node used only while building. Equality covers the terminal flag and the
+     * outgoing edges, which point at already-minimized nodes and so can be compared by identity.
+     */
+    private static class BuildNode {
+        private char[] letters = new char[2];
+        private BuildNode[] children = new BuildNode[2];
+        private int size;
+        private boolean terminal;
+
+        void addChild(char letter, BuildNode child) {
+            if (size == letters.length) {
+                letters = Arrays.copyOf(letters, size * 2);
+                children = Arrays.copyOf(children, size * 2);
+            }
+            letters[size] = letter;
+            children[size] = child;
+            size++;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BuildNode)) return false;
+            BuildNode other = (BuildNode) o;
+            if (terminal != other.terminal || size != other.size) return false;
+            for (int i = 0; i < size; i++) {
+                if (letters[i] != other.letters[i] || children[i] != other.children[i]) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = terminal ? 1 : 0;
+            for (int i = 0; i < size; i++) {
+                hash = 31 * hash + letters[i];
+                hash = 31 * hash + System.identityHashCode(children[i]);
+            }
+            return hash;
+        }
+    }
+}
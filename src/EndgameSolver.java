@@ -0,0 +1,435 @@
+package src;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The EndgameSolver class searches a two-player endgame to find the move that maximises the final spread.
+ *
+ * <p>Once the bag is empty each player can work out the other's rack, so the rest of the game is a
+ * perfect-information game. The solver runs a negamax alpha-beta search over every legal move plus passing,
+ * deepening one ply at a time until the whole game tree fits or the budget runs out; the best move of the
+ * last completed depth is returned. The game ends when a player plays out, gaining twice the face value of
+ * the tiles left on the other rack (the other player loses them, the player going out gains them), or after
+ * two passes in a row, when each player loses the value of their own tiles. Positions beyond the search depth
+ * are valued as if both players passed.
+ *
+ * <p>Moves are searched best first: the move stored for the position in the transposition table, then moves
+ * that go out, then by score. A full-width search of two seven-tile racks is out of reach in a few seconds
+ * (each position needs a move generation, and there are hundreds of moves per position), so by default only
+ * the best few moves by score are searched in each position, besides those that go out and passing;
+ * a search is only reported as solved if it was exhaustive.
+ *
+ * <p>The transposition table is keyed by a Zobrist hash of the board, both racks, the side to move and the
+ * pass count, and has a fixed number of slots, so its memory use is bounded (16 bytes per slot) however long
+ * the search runs. Each ply also keeps a {@link LineMoveCache}: sibling positions differ only in the lines the
+ * previous move touched and share the rack to move, so most of each generation is taken from the cache.
+ * A solver is not safe for concurrent use.
+ */
+public class EndgameSolver {
+    /** Table size used by {@link #EndgameSolver(Lexicon)}: 2^20 slots, 16 MB. */
+    public static final int DEFAULT_TABLE_BITS = 20;
+    /** Moves searched per position by {@link #EndgameSolver(Lexicon)}, not counting moves that go out and passing. */
+    public static final int DEFAULT_MOVE_WIDTH = 12;
+
+    private static final int BOARD_SIZE = 15;
+    private static final int MAX_DEPTH = 32;
+    private static final int EXACT_DEPTH = 255; // Stored depth of a value that reached the end of the game everywhere
+    private static final int FLAG_EXACT = 0;
+    private static final int FLAG_LOWER = 1;
+    private static final int FLAG_UPPER = 2;
+    private static final int NO_MOVE = 0xFFFF;
+    private static final int INFINITY = 1_000_000;
+
+    private final Lexicon lexicon;
+    private final MoveGenerator generator;
+    private final LineMoveCache[] lineCaches; // One per ply, kept from one solve to the next
+    // Entries hold the value of the rest of the game from a position, so they stay valid from one turn to the next
+    private final long[] tableKeys;
+    private final long[] tableData;
+    private final int tableMask;
+    private final int moveWidth;
+    // Zobrist keys: board squares by tile (upper-case letters, then blanks), rack tiles by side, tile and copy
+    private final long[][] squareKeys;
+    private final long[][][] rackKeys;
+    private final long sideKey;
+    private final long passKey;
+
+    private char[][] board;
+    private CrossChecks[] crossChecks;
+    private SearchBudget budget;
+    private long nodes;
+    private boolean aborted;
+    private boolean horizonReached; // Whether the subtree being searched was cut off at the search depth
+    private boolean narrowed; // Whether moves were left out of the subtree being searched
+
+    /**
+     * Creates a solver with the default transposition table size and move width.
+     *
+     * @param lexicon the dictionary both players use.
+     */
+    public EndgameSolver(Lexicon lexicon) {
+        this(lexicon, DEFAULT_TABLE_BITS, DEFAULT_MOVE_WIDTH);
+    }
+
+    /**
+     * Creates a solver.
+     *
+     * @param lexicon   the dictionary both players use.
+     * @param tableBits the log2 of the number of transposition table slots, from 10 to 26.
+     * @param moveWidth the most moves to search in each position, besides those that go out and passing;
+     *                  {@link Integer#MAX_VALUE} searches every move, so the result is exact once solved.
+     * @throws IllegalArgumentException if an argument is out of range.
+     */
+    public EndgameSolver(Lexicon lexicon, int tableBits, int moveWidth) {
+        if (tableBits < 10 || tableBits > 26) {
+            throw new IllegalArgumentException("Table bits must be between 10 and 26, got " + tableBits + ".");
+        }
+        if (moveWidth < 1) {
+            throw new IllegalArgumentException("Move width must be at least 1, got " + moveWidth + ".");
+        }
+        this.lexicon = lexicon;
+        this.generator = new MoveGenerator(lexicon);
+        this.lineCaches = new LineMoveCache[MAX_DEPTH + 1];
+        for (int ply = 0; ply < lineCaches.length; ply++) {
+            lineCaches[ply] = new LineMoveCache(BOARD_SIZE);
+        }
+        this.tableKeys = new long[1 << tableBits];
+        this.tableData = new long[1 << tableBits];
+        this.tableMask = (1 << tableBits) - 1;
+        this.moveWidth = moveWidth;
+
+        SplittableRandom random = new SplittableRandom(0x5C4A_BB1EL);
+        this.squareKeys = new long[BOARD_SIZE * BOARD_SIZE][52];
+        for (long[] keys : squareKeys) {
+            for (int i = 0; i < keys.length; i++) keys[i] = random.nextLong();
+        }
+        this.rackKeys = new long[2][LeaveTable.BLANK_CODE + 1][LeaveTable.MAX_LEAVE + 2];
+        for (long[][] side : rackKeys) {
+            for (long[] keys : side) {
+                for (int i = 0; i < keys.length; i++) keys[i] = random.nextLong();
+            }
+        }
+        this.sideKey = random.nextLong();
+        this.passKey = random.nextLong();
+    }
+
+    /**
+     * Returns the lexicon the solver plays with.
+     *
+     * @return the lexicon.
+     */
+    public Lexicon getLexicon() {
+        return lexicon;
+    }
+
+    /**
+     * Searches an endgame from the point of view of the player about to move.
+     *
+     * @param board        the current board; it is not modified.
+     * @param ownRack      the tiles of the player to move.
+     * @param opponentRack the tiles of the other player.
+     * @param budget       the time allowed and the cancellation signal.
+     * @return the best move found and the search statistics.
+     * @throws IllegalArgumentException if the board is not 15 by 15.
+     */
+    public Result solve(char[][] board, List<Character> ownRack, List<Character> opponentRack, SearchBudget budget) {
+        if (board.length != BOARD_SIZE) {
+            throw new IllegalArgumentException("Endgames are solved on a " + BOARD_SIZE + "x" + BOARD_SIZE + " board.");
+        }
+        this.board = new char[board.length][];
+        for (int row = 0; row < board.length; row++) {
+            this.board[row] = board[row].clone();
+        }
+        this.crossChecks = new CrossChecks[MAX_DEPTH + 2];
+        this.crossChecks[0] = new CrossChecks(lexicon, this.board);
+        for (int ply = 1; ply < crossChecks.length; ply++) {
+            crossChecks[ply] = new CrossChecks(crossChecks[0]);
+        }
+        this.budget = budget;
+        this.nodes = 0;
+
+        long boardHash = 0;
+        for (int row = 0; row < board.length; row++) {
+            for (int col = 0; col < board.length; col++) {
+                if (board[row][col] != '\0') boardHash ^= squareKey(row, col, board[row][col]);
+            }
+        }
+        List<List<Character>> racks = new ArrayList<>();
+        racks.add(new ArrayList<>(ownRack));
+        racks.add(new ArrayList<>(opponentRack));
+
+        long start = System.nanoTime();
+        Move bestMove = null;
+        int bestValue = 0;
+        int depth = 0;
+        boolean complete = false;
+        boolean solved = false;
+        for (int d = 1; d <= MAX_DEPTH && !complete; d++) {
+            aborted = false;
+            horizonReached = false;
+            narrowed = false;
+            Move[] rootBest = new Move[1];
+            int value = search(racks, 0, 0, boardHash, d, 0, -INFINITY, INFINITY, rootBest);
+            if (aborted) {
+                break;
+            }
+            bestMove = rootBest[0];
+            bestValue = value;
+            depth = d;
+            complete = !horizonReached;
+            solved = complete && !narrowed;
+        }
+        if (depth == 0) {
+            // Not even one ply finished; fall back to the highest-scoring move
+            for (Move move : generator.generate(this.board, racks.get(0), crossChecks[0])) {
+                if (bestMove == null || move.getScore() > bestMove.getScore()) bestMove = move;
+            }
+            bestValue = bestMove == null ? 0 : bestMove.getScore();
+        }
+
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        Result result = new Result(bestMove, bestValue, depth, solved, nodes, elapsed);
+        System.out.println("Endgame search: " + (solved ? "solved" : complete ? "searched to the end" : "depth " + depth) + ", spread " + bestValue + ", "
+                + nodes + " nodes in " + elapsed / 1_000_000 + " ms (" + result.getNodesPerSecond() + " nodes/s).");
+        this.board = null;
+        this.crossChecks = null;
+        return result;
+    }
+
+    /**
+     * Negamax search of one position.
+     *
+     * @return the final spread the side to move can reach, from its point of view.
+     */
+    private int search(List<List<Character>> racks, int side, int passes, long boardHash, int depth, int ply,
+                       int alpha, int beta, Move[] rootBest) {
+        nodes++;
+        List<Character> own = racks.get(side);
+        List<Character> other = racks.get(1 - side);
+        if (passes == 2) {
+            return rackValue(other) - rackValue(own);
+        }
+        if (depth == 0) {
+            horizonReached = true;
+            return rackValue(other) - rackValue(own);
+        }
+        if (budget.isExhausted()) {
+            aborted = true;
+            return 0;
+        }
+
+        long key = boardHash ^ rackHash(own, side) ^ rackHash(other, 1 - side)
+                ^ (side == 1 ? sideKey : 0) ^ (passes == 1 ? passKey : 0);
+        int slot = (int) key & tableMask;
+        int tableMove = NO_MOVE;
+        if (tableKeys[slot] == key) {
+            long data = tableData[slot];
+            int storedValue = (int) data;
+            int storedDepth = (int) (data >>> 32) & 0xFF;
+            int flag = (int) (data >>> 40) & 0x3;
+            tableMove = (int) (data >>> 42) & 0xFFFF;
+            boolean storedNarrowed = (data >>> 58 & 1) != 0;
+            if (ply > 0 && storedDepth >= depth) {
+                if (storedDepth != EXACT_DEPTH) horizonReached = true;
+                if (storedNarrowed) narrowed = true;
+                if (flag == FLAG_EXACT
+                        || (flag == FLAG_LOWER && storedValue >= beta)
+                        || (flag == FLAG_UPPER && storedValue <= alpha)) {
+                    return storedValue;
+                }
+            }
+        }
+
+        int outBonus = 2 * rackValue(other);
+        List<Move> moves = generator.generate(board, own, crossChecks[ply], budget, lineCaches[ply]);
+        if (budget.isExhausted()) {
+            aborted = true;
+            return 0;
+        }
+        moves.sort(Comparator.comparingInt((Move move) -> -(move.getScore() + (move.getTilesPlaced() == own.size() ? outBonus : 0))));
+        boolean savedHorizon = horizonReached;
+        boolean savedNarrowed = narrowed;
+        horizonReached = false;
+        narrowed = false;
+
+        // Moves that go out end the game and cost nothing to search, so only the others are limited in number
+        moves.add(null); // Passing
+        int[] order = new int[moves.size()];
+        int count = 0;
+        if (tableMove < moves.size()) {
+            order[count++] = tableMove;
+        }
+        int searched = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            Move move = moves.get(i);
+            if (move != null && move.getTilesPlaced() != own.size() && searched++ >= moveWidth) {
+                narrowed = true;
+                continue;
+            }
+            if (i != tableMove) order[count++] = i;
+        }
+
+        int originalAlpha = alpha;
+        int best = -INFINITY;
+        int bestIndex = NO_MOVE;
+        for (int n = 0; n < count; n++) {
+            int index = order[n];
+            Move move = moves.get(index);
+            int value;
+            if (move == null) {
+                crossChecks[ply + 1].copyFrom(crossChecks[ply]);
+                value = -search(racks, 1 - side, passes + 1, boardHash, depth - 1, ply + 1, -beta, -alpha, null);
+            } else {
+                String leave = LeaveTable.leaveAfter(move, own);
+                if (leave.isEmpty()) {
+                    value = move.getScore() + outBonus;
+                } else {
+                    Placement placed = move.placeOn(board);
+                    long childHash = boardHash;
+                    for (int i = 0; i < placed.size(); i++) {
+                        childHash ^= squareKey(placed.row(i), placed.col(i), placed.letter(i));
+                    }
+                    crossChecks[ply + 1].copyFrom(crossChecks[ply]);
+                    crossChecks[ply + 1].update(board, placed);
+                    List<Character> kept = new ArrayList<>(leave.length());
+                    for (char tile : leave.toCharArray()) kept.add(tile);
+                    racks.set(side, kept);
+
+                    value = move.getScore()
+                            - search(racks, 1 - side, 0, childHash, depth - 1, ply + 1, -beta, -alpha, null);
+
+                    racks.set(side, own);
+                    placed.removeFrom(board);
+                }
+            }
+            if (aborted) {
+                return 0;
+            }
+            if (value > best) {
+                best = value;
+                bestIndex = index;
+                if (rootBest != null) rootBest[0] = move;
+            }
+            alpha = Math.max(alpha, value);
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        int storedDepth = horizonReached ? depth : EXACT_DEPTH;
+        boolean subtreeNarrowed = narrowed;
+        horizonReached |= savedHorizon;
+        narrowed |= savedNarrowed;
+        int flag = best <= originalAlpha ? FLAG_UPPER : best >= beta ? FLAG_LOWER : FLAG_EXACT;
+        if (tableKeys[slot] != key || storedDepth >= ((int) (tableData[slot] >>> 32) & 0xFF)) {
+            tableKeys[slot] = key;
+            tableData[slot] = (best & 0xFFFFFFFFL) | ((long) storedDepth << 32) | ((long) flag << 40)
+                    | ((long) (bestIndex & 0xFFFF) << 42) | (subtreeNarrowed ? 1L << 58 : 0);
+        }
+        return best;
+    }
+
+    private long squareKey(int row, int col, char letter) {
+        int code = Character.isUpperCase(letter) ? letter - 'A' : 26 + Character.toLowerCase(letter) - 'a';
+        return squareKeys[row * board.length + col][Math.max(0, Math.min(51, code))];
+    }
+
+    private long rackHash(List<Character> rack, int side) {
+        int[] copies = new int[LeaveTable.BLANK_CODE + 1];
+        long hash = 0;
+        for (char tile : rack) {
+            int code = tile == ' ' || tile == '?' ? LeaveTable.BLANK_CODE : Character.toUpperCase(tile) - 'A' + 1;
+            if (code < 1 || code > LeaveTable.BLANK_CODE) continue;
+            int copy = Math.min(copies[code]++, LeaveTable.MAX_LEAVE + 1);
+            hash ^= rackKeys[side][code][copy];
+        }
+        return hash;
+    }
+
+    private static int rackValue(List<Character> rack) {
+        int total = 0;
+        for (char tile : rack) {
+            total += ScoreCalculation.letterValue(tile);
+        }
+        return total;
+    }
+
+    /**
+     * The outcome of an endgame search.
+     */
+    public static class Result {
+        private final Move bestMove;
+        private final int value;
+        private final int depth;
+        private final boolean solved;
+        private final long nodes;
+        private final long elapsedNanos;
+
+        Result(Move bestMove, int value, int depth, boolean solved, long nodes, long elapsedNanos) {
+            this.bestMove = bestMove;
+            this.value = value;
+            this.depth = depth;
+            this.solved = solved;
+            this.nodes = nodes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Returns the move to play.
+         *
+         * @return the best move found, or null if passing is best (or there is no legal move).
+         */
+        public Move getBestMove() {
+            return bestMove;
+        }
+
+        /**
+         * Returns the spread the player to move gains from here to the end of the game with best play.
+         *
+         * @return the value of the position in points; exact if {@link #isSolved()}, an estimate otherwise.
+         */
+        public int getValue() {
+            return value;
+        }
+
+        /**
+         * Returns the depth of the last completed search.
+         *
+         * @return the depth in plies, or 0 if the budget ran out before one ply was searched.
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Checks whether the search reached the end of the game on every line without leaving any move out,
+         * making the value exact.
+         *
+         * @return true if the endgame was solved.
+         */
+        public boolean isSolved() {
+            return solved;
+        }
+
+        /**
+         * Returns the number of positions searched.
+         *
+         * @return the node count.
+         */
+        public long getNodes() {
+            return nodes;
+        }
+
+        /**
+         * Returns the search speed.
+         *
+         * @return positions searched per second.
+         */
+        public long getNodesPerSecond() {
+            return nodes * 1_000_000_000L / Math.max(1, elapsedNanos);
+        }
+    }
+}
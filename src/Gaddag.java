@@ -0,0 +1,98 @@
+package src;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The Gaddag class stores every word once for each way it can be split around a letter,
+ * so a word can be grown outward from any square in both directions.
+ *
+ * <p>For a word {@code w} and each split point {@code i}, the graph holds
+ * {@code reverse(w[0..i]) + SEPARATOR + w[i..]}. Starting at an anchor square, move generation
+ * follows letters leftwards (the reversed prefix), then crosses {@link #SEPARATOR} and continues
+ * rightwards from the square after the anchor. The strings are compiled into a minimized
+ * {@link Dawg}, so the same node/edge accessors apply.
+ */
+public class Gaddag {
+    /** Edge letter marking the switch from the reversed prefix to the suffix. */
+    public static final char SEPARATOR = '>';
+
+    private final Dawg graph;
+
+    private Gaddag(Dawg graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Builds a GADDAG from normalized words.
+     *
+     * @param words the words to store; duplicates and empty strings are ignored.
+     * @return the compiled GADDAG.
+     */
+    public static Gaddag build(Collection<String> words) {
+        List<String> paths = new ArrayList<>();
+        StringBuilder path = new StringBuilder();
+        for (String word : words) {
+            for (int split = 1; split <= word.length(); split++) {
+                path.setLength(0);
+                for (int i = split - 1; i >= 0; i--) {
+                    path.append(word.charAt(i));
+                }
+                path.append(SEPARATOR).append(word, split, word.length());
+                paths.add(path.toString());
+            }
+        }
+        return new Gaddag(Dawg.build(paths));
+    }
+
+    /**
+     * Returns the node reached by following one letter (or the separator) from a node.
+     *
+     * @param node   the node to start from.
+     * @param letter the edge letter to follow.
+     * @return the child node, or -1 if there is no such edge.
+     */
+    public int child(int node, char letter) {
+        return graph.child(node, letter);
+    }
+
+    /**
+     * Checks whether a complete word has been spelled when this node is reached.
+     *
+     * @param node the node to check.
+     * @return true if the path to this node ends a word.
+     */
+    public boolean isTerminal(int node) {
+        return graph.isTerminal(node);
+    }
+
+    /**
+     * Returns the underlying graph, for callers that iterate child edges directly.
+     *
+     * @return the compiled graph.
+     */
+    public Dawg graph() {
+        return graph;
+    }
+
+    /**
+     * Writes the GADDAG to a buffer; see {@link Dawg#writeTo}.
+     *
+     * @param out the buffer to write to.
+     */
+    public void writeTo(ByteBuffer out) {
+        graph.writeTo(out);
+    }
+
+    /**
+     * Wraps a GADDAG written by {@link #writeTo} without copying it; see {@link Dawg#readFrom}.
+     *
+     * @param in the buffer to read from.
+     * @return the GADDAG backed by the buffer.
+     */
+    public static Gaddag readFrom(ByteBuffer in) {
+        return new Gaddag(Dawg.readFrom(in));
+    }
+}
@@ -0,0 +1,361 @@
+package src;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The GameRules class checks and scores a turn's tiles using only the board array and a {@link Placement}.
+ *
+ * <p>It has no Swing dependencies, so the AI, self-play tools and tests can validate and score moves without
+ * a display; the GUI is one more caller that turns the problems it reports into dialogs. The rules are:
+ * the tiles lie in one row or column with no empty square between them, the first move covers the centre
+ * square, and every later move touches a tile already on the board. A move forms its main word along that
+ * line plus one word across each new tile that has neighbours the other way. Premium squares only count
+ * under new tiles, and placing all seven tiles earns {@link MoveGenerator#BINGO_BONUS}. A blank is written
+ * on the board as the lower-case letter it stands for and scores nothing.
+ */
+public class GameRules {
+    private static final int RACK_SIZE = 7;
+    // Lines a placement can lie on
+    private static final int ACROSS = 0;
+    private static final int DOWN = 1;
+    private static final int EITHER = 2;
+
+    private GameRules() {
+        // Static rules only
+    }
+
+    /**
+     * Checks where the tiles were placed, without looking the words up.
+     *
+     * @param board       the board, with the tiles already on it.
+     * @param placement   the tiles placed this turn.
+     * @param isFirstTurn true if no tiles were on the board before this turn.
+     * @return a message describing what is wrong, or null if the placement is allowed.
+     */
+    public static String placementProblem(char[][] board, Placement placement, boolean isFirstTurn) {
+        if (placement.isEmpty()) {
+            return "Place at least one letter.";
+        }
+        int direction = direction(placement);
+        if (direction < 0) {
+            return "Placed letters must be in the same row or column.";
+        }
+        if (!isContiguous(board, placement, direction != DOWN)) {
+            return "Placed letters must not leave gaps.";
+        }
+
+        if (isFirstTurn) {
+            int centerRow = board.length / 2;
+            int centerCol = board[0].length / 2;
+            if (!placement.contains(centerRow, centerCol)) {
+                return "The first word must use the center tile.";
+            }
+            if (!placement.contains(centerRow - 1, centerCol) && !placement.contains(centerRow + 1, centerCol)
+                    && !placement.contains(centerRow, centerCol - 1) && !placement.contains(centerRow, centerCol + 1)) {
+                return "On the first turn, the center tile must be adjacent to another newly placed tile.";
+            }
+            return null;
+        }
+
+        for (int i = 0; i < placement.size(); i++) {
+            int row = placement.row(i);
+            int col = placement.col(i);
+            if (isOldTile(board, placement, row - 1, col) || isOldTile(board, placement, row + 1, col)
+                    || isOldTile(board, placement, row, col - 1) || isOldTile(board, placement, row, col + 1)) {
+                return null;
+            }
+        }
+        return "Placed letters must be adjacent to existing words.";
+    }
+
+    /**
+     * Validates the words formed by tiles placed along one row or column, using cross-checks of the board
+     * as it was before the tiles were placed. The main word is read from the board once; every perpendicular
+     * word is checked with a single mask test instead of being walked through the lexicon.
+     *
+     * @param lexicon     the dictionary to validate against.
+     * @param crossChecks the cross-checks of the board without the new tiles, computed with the same lexicon.
+     * @param board       the board, with the tiles already placed on it.
+     * @param placement   the tiles placed this turn.
+     * @return true if all words through the placed tiles are valid, false otherwise.
+     */
+    public static boolean arePlacedWordsValid(Lexicon lexicon, CrossChecks crossChecks, char[][] board, Placement placement) {
+        if (placement.isEmpty()) {
+            return true;
+        }
+        int direction = direction(placement);
+        if (direction < 0) {
+            return false;
+        }
+
+        for (int i = 0; i < placement.size(); i++) {
+            int row = placement.row(i);
+            int col = placement.col(i);
+            char letter = board[row][col];
+            // A lone tile forms a perpendicular word in each direction
+            if ((direction != DOWN && !crossChecks.allows(true, row, col, letter))
+                    || (direction != ACROSS && !crossChecks.allows(false, row, col, letter))) {
+                return false;
+            }
+        }
+        if (direction == EITHER) {
+            return true;
+        }
+        int[] span = span(board, placement.row(0), placement.col(0), direction == ACROSS);
+        return span[2] < 2 || lexicon.isWordOnBoard(board, span[0], span[1], direction == ACROSS, span[2]);
+    }
+
+    /**
+     * Lists the words a placement forms: the main word along its line, then the word across each new tile.
+     * Runs of a single letter are not words.
+     *
+     * @param board     the board, with the tiles already on it.
+     * @param placement the tiles placed this turn, all in one row or column.
+     * @return the words formed, in board order.
+     */
+    public static List<String> wordsFormed(char[][] board, Placement placement) {
+        List<String> words = new ArrayList<>();
+        for (int[] span : spans(board, placement)) {
+            words.add(text(board, span));
+        }
+        return words;
+    }
+
+    /**
+     * Scores each word a placement forms. Letter and word premiums apply only to the squares of new tiles.
+     * A word formed twice is listed once with the sum of both scores.
+     *
+     * @param board     the board, with the tiles already on it.
+     * @param placement the tiles placed this turn, all in one row or column.
+     * @return each word formed and its points, in board order.
+     */
+    public static Map<String, Integer> scoreWords(char[][] board, Placement placement) {
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        for (int[] span : spans(board, placement)) {
+            scores.merge(text(board, span), score(board, placement, span), Integer::sum);
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the bonus for a placement beyond the points of its words.
+     *
+     * @param placement the tiles placed this turn.
+     * @return {@link MoveGenerator#BINGO_BONUS} if a full rack was played, otherwise 0.
+     */
+    public static int bonus(Placement placement) {
+        return placement.size() == RACK_SIZE ? MoveGenerator.BINGO_BONUS : 0;
+    }
+
+    /**
+     * Returns a placement's total score: the points of every word it forms plus any bonus.
+     *
+     * @param board     the board, with the tiles already on it.
+     * @param placement the tiles placed this turn, all in one row or column.
+     * @return the points the move earns.
+     */
+    public static int score(char[][] board, Placement placement) {
+        int total = bonus(placement);
+        for (int[] span : spans(board, placement)) {
+            total += score(board, placement, span);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the letter multiplier of a premium square.
+     *
+     * @param row the square's row.
+     * @param col the square's column.
+     * @return 3 for a triple letter square, 2 for a double letter square, otherwise 1.
+     */
+    public static int letterMultiplier(int row, int col) {
+        return isTripleLetter(row, col) ? 3 : isDoubleLetter(row, col) ? 2 : 1;
+    }
+
+    /**
+     * Returns the word multiplier of a premium square.
+     *
+     * @param row the square's row.
+     * @param col the square's column.
+     * @return 3 for a triple word square, 2 for a double word square, otherwise 1.
+     */
+    public static int wordMultiplier(int row, int col) {
+        return isTripleWord(row, col) ? 3 : isDoubleWord(row, col) ? 2 : 1;
+    }
+
+    /**
+     * Checks if the given board position is a double word bonus square.
+     *
+     * @param row the row index of the square.
+     * @param col the column index of the square.
+     * @return {@code true} if the square is a double word bonus square, otherwise {@code false}.
+     */
+    static boolean isDoubleWord(int row, int col) {
+        return ((row == 1) && (col == 1 || col == 13) ||
+                (row == 2) && (col == 2 || col == 12) ||
+                (row == 3) && (col == 3 || col == 11) ||
+                (row == 4) && (col == 4 || col == 10) ||
+                (row == 10) && (col == 4 || col == 10) ||
+                (row == 11) && (col == 3 || col == 11) ||
+                (row == 12) && (col == 2 || col == 12) ||
+                (row == 13) && (col == 1 || col == 13));
+    }
+
+    /**
+     * Checks if the given board position is a triple word bonus square.
+     *
+     * @param row the row index of the square.
+     * @param col the column index of the square.
+     * @return {@code true} if the square is a triple word bonus square, otherwise {@code false}.
+     */
+    static boolean isTripleWord(int row, int col) {
+        return ((row == 0 || row == 7 || row == 14) && (col == 0 || col == 14) ||
+                (row == 0 || row == 14) && (col == 7));
+    }
+
+    /**
+     * Checks if the given board position is a double letter bonus square.
+     *
+     * @param row the row index of the square.
+     * @param col the column index of the square.
+     * @return {@code true} if the square is a double letter bonus square, otherwise {@code false}.
+     */
+    static boolean isDoubleLetter(int row, int col) {
+        return ((row == 0 || row == 14) && (col == 3 || col == 11) ||
+                (row == 2 || row == 12) && (col == 6 || col == 8) ||
+                (row == 3 || row == 11) && (col == 0 || col == 14) ||
+                (row == 6 || row == 8) && (col == 2 || col == 6 || col == 8 || col == 12) ||
+                (row == 7) && (col == 3 || col == 11) ||
+                (row == 3 || row == 11) && (col == 7));
+    }
+
+    /**
+     * Checks if the given board position is a triple letter bonus square.
+     *
+     * @param row the row index of the square.
+     * @param col the column index of the square.
+     * @return {@code true} if the square is a triple letter bonus square, otherwise {@code false}.
+     */
+    static boolean isTripleLetter(int row, int col) {
+        return ((row == 1 || row == 5 || row == 9 || row == 13) && (col == 5 || col == 9) ||
+                (row == 5 || row == 9) && (col == 1 || col == 13));
+    }
+
+    /**
+     * Works out the line the tiles lie on: {@code ACROSS}, {@code DOWN}, {@code EITHER} for a single tile,
+     * or -1 if they are not in one row or column.
+     */
+    private static int direction(Placement placement) {
+        if (placement.size() == 1) {
+            return EITHER;
+        }
+        boolean sameRow = true;
+        boolean sameCol = true;
+        for (int i = 1; i < placement.size(); i++) {
+            sameRow &= placement.row(i) == placement.row(0);
+            sameCol &= placement.col(i) == placement.col(0);
+        }
+        return sameRow ? ACROSS : sameCol ? DOWN : -1;
+    }
+
+    /**
+     * Checks that every square between the first and last tile along the line is filled.
+     */
+    private static boolean isContiguous(char[][] board, Placement placement, boolean horizontal) {
+        int first = Integer.MAX_VALUE;
+        int last = Integer.MIN_VALUE;
+        for (int i = 0; i < placement.size(); i++) {
+            int pos = horizontal ? placement.col(i) : placement.row(i);
+            first = Math.min(first, pos);
+            last = Math.max(last, pos);
+        }
+        for (int pos = first; pos <= last; pos++) {
+            char square = horizontal ? board[placement.row(0)][pos] : board[pos][placement.col(0)];
+            if (square == '\0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isOldTile(char[][] board, Placement placement, int row, int col) {
+        return row >= 0 && row < board.length && col >= 0 && col < board[0].length
+                && board[row][col] != '\0' && !placement.contains(row, col);
+    }
+
+    /**
+     * Finds the words a placement forms as {row, col, length, horizontal ? 1 : 0} spans.
+     */
+    private static List<int[]> spans(char[][] board, Placement placement) {
+        List<int[]> spans = new ArrayList<>();
+        if (placement.isEmpty()) {
+            return spans;
+        }
+        int direction = direction(placement);
+        if (direction == EITHER) {
+            addSpan(spans, board, placement.row(0), placement.col(0), true);
+            addSpan(spans, board, placement.row(0), placement.col(0), false);
+            return spans;
+        }
+        boolean horizontal = direction == ACROSS;
+        addSpan(spans, board, placement.row(0), placement.col(0), horizontal);
+        for (int i = 0; i < placement.size(); i++) {
+            addSpan(spans, board, placement.row(i), placement.col(i), !horizontal);
+        }
+        return spans;
+    }
+
+    private static void addSpan(List<int[]> spans, char[][] board, int row, int col, boolean horizontal) {
+        int[] span = span(board, row, col, horizontal);
+        if (span[2] >= 2) {
+            spans.add(span);
+        }
+    }
+
+    /**
+     * Finds the run of tiles through a square in one direction.
+     */
+    private static int[] span(char[][] board, int row, int col, boolean horizontal) {
+        int rowStep = horizontal ? 0 : 1;
+        int colStep = horizontal ? 1 : 0;
+        while (row - rowStep >= 0 && col - colStep >= 0 && board[row - rowStep][col - colStep] != '\0') {
+            row -= rowStep;
+            col -= colStep;
+        }
+        int length = 0;
+        while (row + length * rowStep < board.length && col + length * colStep < board[0].length
+                && board[row + length * rowStep][col + length * colStep] != '\0') {
+            length++;
+        }
+        return new int[]{row, col, length, horizontal ? 1 : 0};
+    }
+
+    private static String text(char[][] board, int[] span) {
+        char[] letters = new char[span[2]];
+        for (int i = 0; i < span[2]; i++) {
+            char letter = span[3] == 1 ? board[span[0]][span[1] + i] : board[span[0] + i][span[1]];
+            letters[i] = Character.toUpperCase(letter); // Blanks are stored in lower case
+        }
+        return new String(letters);
+    }
+
+    private static int score(char[][] board, Placement placement, int[] span) {
+        int total = 0;
+        int wordMultiplier = 1;
+        for (int i = 0; i < span[2]; i++) {
+            int row = span[3] == 1 ? span[0] : span[0] + i;
+            int col = span[3] == 1 ? span[1] + i : span[1];
+            int letterScore = ScoreCalculation.tileValue(board[row][col]);
+            if (placement.contains(row, col)) {
+                letterScore *= letterMultiplier(row, col);
+                wordMultiplier *= wordMultiplier(row, col);
+            }
+            total += letterScore;
+        }
+        return total * wordMultiplier;
+    }
+}
@@ -80,65 +80,6 @@ public class Helpers {
         }
     }
 
-    /**
-     * Checks if the given board position is a double word bonus square.
-     *
-     * @param row the row index of the square.
-     * @param col the column index of the square.
-     * @return {@code true} if the square is a double word bonus square, otherwise {@code false}.
-     */
-    static boolean isDoubleWord(int row, int col) {
-        return ((row == 1) && (col == 1 || col == 13) ||
-                (row == 2) && (col == 2 || col == 12) ||
-                (row == 3) && (col == 3 || col == 11) ||
-                (row == 4) && (col == 4 || col == 10) ||
-                (row == 10) && (col == 4 || col == 10) ||
-                (row == 11) && (col == 3 || col == 11) ||
-                (row == 12) && (col == 2 || col == 12) ||
-                (row == 13) && (col == 1 || col == 13));
-    }
-
-    /**
-     * Checks if the given board position is a triple word bonus square.
-     *
-     * @param row the row index of the square.
-     * @param col the column index of the square.
-     * @return {@code true} if the square is a triple word bonus square, otherwise {@code false}.
-     */
-    static boolean isTripleWord(int row, int col) {
-        return ((row == 0 || row == 7 || row == 14) && (col == 0 || col == 14) ||
-                (row == 0 || row == 14) && (col == 7));
-    }
-
-    /**
-     * Checks if the given board position is a double letter bonus square.
-     *
-     * @param row the row index of the square.
-     * @param col the column index of the square.
-     * @return {@code true} if the square is a double letter bonus square, otherwise {@code false}.
-     */
-    static boolean isDoubleLetter(int row, int col) {
-        return ((row == 0 || row == 14) && (col == 3 || col == 11) ||
-                (row == 2 || row == 12) && (col == 6 || col == 8) ||
-                (row == 3 || row == 11) && (col == 0 || col == 14) ||
-                (row == 6 || row == 8) && (col == 2 || col == 6 || col == 8 || col == 12) ||
-                (row == 7) && (col == 3 || col == 11) ||
-                (row == 3 || row == 11) && (col == 7));
-    }
-
-    /**
-     * Checks if the given board position is a triple letter bonus square.
-     *
-     * @param row the row index of the square.
-     * @param col the column index of the square.
-     * @return {@code true} if the square is a triple letter bonus square, otherwise {@code false}.
-     */
-    static boolean isTripleLetter(int row, int col) {
-        return ((row == 1 || row == 5 || row == 9 || row == 13) && (col == 5 || col == 9) ||
-                (row == 5 || row == 9) && (col == 1 || col == 13));
-    }
-
-
     /**
      * Updates the list of coordinates for tiles that are already placed on the Scrabble board.
      * This method clears the existing list and repopulates it with the coordinates of all non-empty cells.
@@ -175,184 +116,88 @@ public class Helpers {
     }
 
     /**
-     * Collects a full word from the board starting at a specific position in a specified direction (horizontal or vertical).
-     *
-     * @param row         the starting row of the word.
-     * @param col         the starting column of the word.
-     * @param isHorizontal true if the word is to be collected horizontally, false if vertically.
-     * @return the full word as a String, or an empty string if the word is a single letter.
-     */
-    private static String collectFullWord(int row, int col, boolean isHorizontal) {
-        StringBuilder word = new StringBuilder();
-
-        int startRow = row;
-        int startCol = col;
-
-        // Move to the beginning of the word
-        while (isValidPosition(startRow, startCol) && ScrabbleController.board[startRow][startCol] != '\0') {
-            if (isHorizontal) {
-                if (startCol == 0) break;
-                startCol--;
-            } else {
-                if (startRow == 0) break;
-                startRow--;
-            }
-        }
-
-        if (isHorizontal) startCol++;
-        else startRow++;
-
-        // Collect the word
-        while (isValidPosition(startRow, startCol) && ScrabbleController.board[startRow][startCol] != '\0') {
-            word.append(ScrabbleController.board[startRow][startCol]);
-            if (isHorizontal) startCol++;
-            else startRow++;
-        }
-
-        return word.length() > 1 ? word.toString() : "";
-    }
-
-
-    /**
-     * Checks if a specified position is within the bounds of the board.
+     * Checks if the placed tiles form a valid word placement on the board.
+     * This includes verifying alignment, ensuring the use of the center tile for the first move,
+     * adjacency to existing words for non-first moves, and ensuring there are no isolated letters.
      *
-     * @param row the row position to check.
-     * @param col the column position to check.
-     * @return true if the position is within the board's boundaries, false otherwise.
+     * @param isFirstTurn   true if it is the first turn of the game, false otherwise.
+     * @return true if the word placement is valid, false otherwise.
      */
-    private static boolean isValidPosition(int row, int col) {
-        return row >= 0 && row < ScrabbleController.board.length && col >= 0 && col < ScrabbleController.board[0].length;
+    public static boolean isWordPlacementValid(boolean isFirstTurn, boolean showMessages) {
+        return isWordPlacementValid(WordValidity.getLexicon(), isFirstTurn, showMessages);
     }
 
-
     /**
-     * Checks if the placed tiles form a valid word placement on the board.
-     * This includes verifying alignment, ensuring the use of the center tile for the first move,
-     * adjacency to existing words for non-first moves, and ensuring there are no isolated letters.
+     * Checks if the placed tiles form a valid word placement on the board, validating the
+     * first word against the given lexicon. The checks themselves are done by {@link GameRules}
+     * on the current turn's {@link Placement}.
      *
+     * @param lexicon       the dictionary to validate against.
      * @param isFirstTurn   true if it is the first turn of the game, false otherwise.
      * @return true if the word placement is valid, false otherwise.
      */
-    public static boolean isWordPlacementValid(boolean isFirstTurn, boolean showMessages) {
+    public static boolean isWordPlacementValid(Lexicon lexicon, boolean isFirstTurn, boolean showMessages) {
+        Placement placement = getCurrentPlacement();
 
         if (isFirstTurn) {
             // Get all words formed and validate them
-            Set<String> wordsFormed = getAllWordsFormed();
-            if (!areAllWordsValid(wordsFormed, showMessages)) {
+            Set<String> wordsFormed = new HashSet<>(GameRules.wordsFormed(ScrabbleController.board, placement));
+            if (!areAllWordsValid(lexicon, wordsFormed, showMessages)) {
                 if (showMessages) {
                     JOptionPane.showMessageDialog(null, "Invalid first word.");
                 }
                 return false;
             }
-
-            // Ensure the center tile is used and properly placed
-            if (!isUsingCenterTile()) {
-                if (showMessages) {
-                    JOptionPane.showMessageDialog(null, "The first word must use the center tile.");
-                }
-                return false;
-            }
-
-            if (!isCenterTileAdjacentToAnotherTile()) {
-                if (showMessages) {
-                    JOptionPane.showMessageDialog(null, "On the first turn, the center tile must be adjacent to another newly placed tile.");
-                }
-                return false;
-            }
         }
 
-        // Validation for non-first turn
-        if (!isFirstTurn && !isAdjacentToExistingWords()) {
+        String problem = GameRules.placementProblem(ScrabbleController.board, placement, isFirstTurn);
+        if (problem != null) {
             if (showMessages) {
-                JOptionPane.showMessageDialog(null, "Placed letters must be adjacent to existing words.");
+                JOptionPane.showMessageDialog(null, problem);
             }
             return false;
         }
-
-        // Check alignment (must be in a single row or column)
-        if (!isAlignedInSingleRowOrColumn()) {
-            if (showMessages) {
-                JOptionPane.showMessageDialog(null, "Placed letters must be in the same row or column.");
-            }
-            return false;
-        }
-
         return true;
     }
 
+    /**
+     * Builds the placement of the tiles put on the board this turn, from the placed tile coordinates.
+     *
+     * @return the current turn's tiles.
+     */
+    public static Placement getCurrentPlacement() {
+        return Placement.of(ScrabbleController.board, ScrabbleController.getPlacedTileCoordinates());
+    }
+
     /**
      * Collects all unique words formed by the placement of tiles in the current turn.
      *
      * @return a Set of Strings containing all unique words formed.
      */
     public static Set<String> getAllWordsFormed() {
-        ArrayList<JButton> placedButtons = ScrabbleController.getMasterPlacedButtons();
-        Set<String> uniqueWordsFormed = new HashSet<>();
-
-        for (JButton button : placedButtons) {
-            // Ensure valid button properties
-            int row = (Integer) button.getClientProperty("row");
-            int col = (Integer) button.getClientProperty("col");
-
-            // Collect words formed in both directions
-            String verticalWord = collectFullWord(row, col, false);
-            String horizontalWord = collectFullWord(row, col, true);
-
-            // Only add valid and new words
-            if (!verticalWord.isEmpty() && isWordNew(verticalWord, placedButtons)) {
-                uniqueWordsFormed.add(verticalWord);
-            }
-            if (!horizontalWord.isEmpty() && isWordNew(horizontalWord, placedButtons)) {
-                uniqueWordsFormed.add(horizontalWord);
-            }
-        }
-
-        return uniqueWordsFormed;
+        return new HashSet<>(GameRules.wordsFormed(ScrabbleController.board, getCurrentPlacement()));
     }
 
     /**
-     * Checks if the given word is newly formed using the tiles placed in the current move.
-     *
-     * <p>This method ensures that:
-     * <ul>
-     *   <li>The word is not null or empty.</li>
-     *   <li>All tiles in the word come from the buttons in the {@code placedButtons} list.</li>
-     * </ul>
+     * Validates all words formed by checking each word against the dictionary.
      *
-     * @param word the word to check.
-     * @param placedButtons an ArrayList of JButton objects representing the tiles placed in the current move.
-     * @return {@code true} if the word is new and entirely formed by the current placement; otherwise, {@code false}.
+     * @param words the Set of words to be validated.
+     * @return true if all words are valid, false if any word is invalid.
      */
-    private static boolean isWordNew(String word, ArrayList<JButton> placedButtons) {
-        // Ensure the word is not null or empty
-        if (word == null || word.isEmpty()) {
-            return false;
-        }
-
-        // Check that all tiles in the word are from the current placement
-        for (JButton button : placedButtons) {
-            String tileText = button.getText();
-            if (tileText == null || tileText.isEmpty()) {
-                continue; // Skip
-            }
-            char tile = tileText.charAt(0);
-            if (!word.contains(String.valueOf(tile))) {
-                return false; // The word contains tiles not placed in the current move
-            }
-        }
-
-        return true; // All tiles in the word are newly placed
+    public static boolean areAllWordsValid(Set<String> words, boolean showMessage) {
+        return areAllWordsValid(WordValidity.getLexicon(), words, showMessage);
     }
 
     /**
-     * Validates all words formed by checking each word against the dictionary.
+     * Validates all words formed by checking each word against the given lexicon.
      *
+     * @param lexicon the dictionary to validate against.
      * @param words the Set of words to be validated.
      * @return true if all words are valid, false if any word is invalid.
      */
-    public static boolean areAllWordsValid(Set<String> words, boolean showMessage) {
+    public static boolean areAllWordsValid(Lexicon lexicon, Set<String> words, boolean showMessage) {
         for (String word : words) {
-            if (!WordValidity.isWordValid(word)) {
+            if (!lexicon.isWord(word)) {
                 if (showMessage) {
                     JOptionPane.showMessageDialog(null, "Invalid word formed: " + word);
                 }
@@ -361,95 +206,6 @@ public class Helpers {
         }
         return true;
     }
-    /**
-     * Checks if all placed letters are in a single row or column.
-     *
-     */
-    private static boolean isAlignedInSingleRowOrColumn() {
-        ArrayList<JButton> placedButtons = ScrabbleController.getMasterPlacedButtons();
-
-        // Check alignment of newly placed tiles
-        boolean isSingleRow = placedButtons.stream().map(b -> (Integer) b.getClientProperty("row")).distinct().count() == 1;
-        boolean isSingleColumn = placedButtons.stream().map(b -> (Integer) b.getClientProperty("col")).distinct().count() == 1;
-
-        // Allow valid adjacency to existing tiles
-        if (isSingleRow || isSingleColumn) {
-            return true;
-        }
-
-        // If not aligned, check if they connect to existing words
-        return isAdjacentToExistingWords();
-    }
-
-
-    /**
-     * Checks if the placed letters use the center tile of the board, required for the first move.
-     *
-     * @return true if any placed tile uses the center tile, false otherwise.
-     */
-    private static boolean isUsingCenterTile() {
-        ArrayList<JButton> placedButtons = ScrabbleController.getMasterPlacedButtons();
-
-        int boardCenterRow = ScrabbleController.board.length / 2;
-        int boardCenterCol = ScrabbleController.board[0].length / 2;
-
-        for (JButton button : placedButtons) {
-            int row = (Integer) button.getClientProperty("row");
-            int col = (Integer) button.getClientProperty("col");
-            if (row == boardCenterRow && col == boardCenterCol) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    /**
-     * Checks if placed letters are adjacent to any existing tiles, required for non-first moves.
-     * Only checks the newly placed tiles and compares them with old tile coordinates.
-     *
-     * @return true if at least one placed letter is adjacent to an existing letter, false otherwise.
-     */
-    private static boolean isAdjacentToExistingWords() {
-        ArrayList<JButton> placedButtons = ScrabbleController.getMasterPlacedButtons();
-
-        for (JButton button : placedButtons) {
-            int row = (Integer) button.getClientProperty("row");
-            int col = (Integer) button.getClientProperty("col");
-
-            if (oldTileCoordinates.contains((row - 1) + "," + col) ||  // Check above
-                    oldTileCoordinates.contains((row + 1) + "," + col) ||  // Check below
-                    oldTileCoordinates.contains(row + "," + (col - 1)) ||  // Check left
-                    oldTileCoordinates.contains(row + "," + (col + 1))) {  // Check right
-                return true;
-            }
-        }
-        return false;
-    }
-
-    /**
-     * Checks if the center tile (middle of the board) is adjacent to another newly placed tile
-     * during the first turn.
-     *
-     * @return true if the center tile is adjacent to another placed tile, false otherwise.
-     */
-    private static boolean isCenterTileAdjacentToAnotherTile() {
-        ArrayList<JButton> placedButtons = ScrabbleController.getMasterPlacedButtons();
-
-        int boardCenterRow = ScrabbleController.board.length / 2;
-        int boardCenterCol = ScrabbleController.board[0].length / 2;
-
-        for (JButton button : placedButtons) {
-            int row = (Integer) button.getClientProperty("row");
-            int col = (Integer) button.getClientProperty("col");
-
-            if ((Math.abs(row - boardCenterRow) == 1 && col == boardCenterCol) ||
-                    (Math.abs(col - boardCenterCol) == 1 && row == boardCenterRow)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
 
     /**
      * Updates the player scores displayed on the screen.
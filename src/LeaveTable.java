@@ -0,0 +1,328 @@
+package src;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The LeaveTable class values the tiles a player keeps after a move (the "leave"), so the AI can prefer a
+ * slightly lower-scoring move that keeps a better rack. A move's equity is its score plus the value of its leave.
+ *
+ * <p>Every leave of up to six tiles is encoded in one int: the tiles are sorted and packed five bits each,
+ * with 1-26 for 'A'-'Z' and 27 for a blank. The table stores the encoded leaves it has values for in a sorted
+ * array and looks them up by binary search. Leaves without an entry are valued tile by tile.
+ *
+ * <p>Tables are built offline from self-play by {@link LeaveTableBuilder} and stored in a small binary file
+ * (magic number, version, entry count, then the keys and values as little-endian ints and floats)
+ * that {@link #load} reads in one call.
+ */
+public class LeaveTable {
+    /** Identifies a leave table file ("LEAV"). */
+    public static final int MAGIC = 0x4C454156;
+    /** Version of the binary layout; bumped whenever the layout changes. */
+    public static final int VERSION = 1;
+    /** Longest leave a key can hold: a seven-tile rack that plays at least one tile. */
+    public static final int MAX_LEAVE = 6;
+    /** Tile code of a blank in a leave key. */
+    public static final int BLANK_CODE = 27;
+
+    private static final int BITS_PER_TILE = 5;
+    // Rough value of keeping each tile, indexed by tile code, for leaves the table has no entry for
+    private static final float[] DEFAULT_TILE_VALUES = {
+            0f,
+            1.0f, -1.5f, 0.5f, 0.5f, 1.5f, -2.0f, -2.0f, 1.0f, -0.5f, -2.5f, -1.5f, 0.5f, 0.5f,
+            0.5f, -1.5f, -1.0f, -7.0f, 1.5f, 7.5f, 0.0f, -3.0f, -5.0f, -4.0f, 3.0f, -0.5f, 2.0f,
+            24.0f
+    };
+    private static final float DUPLICATE_PENALTY = -3.0f;
+
+    private final int[] keys;
+    private final float[] values;
+    private final float[] tileValues;
+
+    private LeaveTable(int[] keys, float[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.tileValues = DEFAULT_TILE_VALUES.clone();
+        // Single-tile entries learned from self-play replace the built-in per-tile values
+        for (int code = 1; code <= BLANK_CODE; code++) {
+            int index = Arrays.binarySearch(keys, code);
+            if (index >= 0) {
+                tileValues[code] = values[index];
+            }
+        }
+    }
+
+    /**
+     * Returns a table with no learned entries, which values every leave tile by tile.
+     *
+     * @return the heuristic table.
+     */
+    public static LeaveTable heuristic() {
+        return new LeaveTable(new int[0], new float[0]);
+    }
+
+    /**
+     * Creates a table from learned leave values.
+     *
+     * @param leaveValues the value of each encoded leave (see {@link #encode}).
+     * @return the new table.
+     */
+    public static LeaveTable fromValues(Map<Integer, Float> leaveValues) {
+        int[] keys = new int[leaveValues.size()];
+        int i = 0;
+        for (int key : leaveValues.keySet()) {
+            keys[i++] = key;
+        }
+        Arrays.sort(keys);
+        float[] values = new float[keys.length];
+        for (i = 0; i < keys.length; i++) {
+            values[i] = leaveValues.get(keys[i]);
+        }
+        return new LeaveTable(keys, values);
+    }
+
+    /**
+     * Reads a leave table file written by {@link #writeTo}.
+     *
+     * @param filePath the path to the table file.
+     * @return the loaded table.
+     * @throws IOException if the file cannot be read or is not a leave table.
+     */
+    public static LeaveTable load(String filePath) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(Paths.get(filePath))).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("Not a leave table file (or an incompatible version): " + filePath);
+        }
+        int count = buffer.getInt();
+        if (count < 0 || buffer.remaining() != count * 8L) {
+            throw new IOException("Leave table file is truncated: " + filePath);
+        }
+        int[] keys = new int[count];
+        float[] values = new float[count];
+        buffer.asIntBuffer().get(keys);
+        buffer.position(buffer.position() + count * 4);
+        buffer.asFloatBuffer().get(values);
+        return new LeaveTable(keys, values);
+    }
+
+    /**
+     * Loads a leave table file if it exists, falling back to the heuristic table otherwise.
+     *
+     * @param filePath the path to the table file.
+     * @return the loaded table, or {@link #heuristic()} if the file is missing or unreadable.
+     */
+    public static LeaveTable loadOrHeuristic(String filePath) {
+        if (!Files.exists(Paths.get(filePath))) {
+            return heuristic();
+        }
+        try {
+            return load(filePath);
+        } catch (IOException e) {
+            System.err.println("Error loading leave table " + filePath + ": " + e.getMessage());
+            return heuristic();
+        }
+    }
+
+    /**
+     * Writes the table in the format {@link #load} reads.
+     *
+     * @param output the file to create or overwrite.
+     * @throws IOException if the file cannot be written.
+     */
+    public void writeTo(Path output) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(12 + keys.length * 8).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(keys.length);
+        for (int key : keys) {
+            buffer.putInt(key);
+        }
+        for (float value : values) {
+            buffer.putFloat(value);
+        }
+        Files.write(output, buffer.array());
+    }
+
+    /**
+     * Encodes a leave as a sorted, packed key. Blanks are ' ' or '?'.
+     *
+     * @param leave the tiles kept, in any order and case.
+     * @return the key, or -1 if the leave has more than {@link #MAX_LEAVE} tiles or an unknown tile.
+     */
+    public static int encode(CharSequence leave) {
+        int length = leave.length();
+        if (length > MAX_LEAVE) {
+            return -1;
+        }
+        int[] codes = new int[length];
+        for (int i = 0; i < length; i++) {
+            codes[i] = tileCode(leave.charAt(i));
+            if (codes[i] == 0) {
+                return -1;
+            }
+        }
+        Arrays.sort(codes);
+        int key = 0;
+        for (int i = 0; i < length; i++) {
+            key = (key << BITS_PER_TILE) | codes[i];
+        }
+        return key;
+    }
+
+    /**
+     * Returns the value of keeping a leave.
+     *
+     * @param leave the tiles kept, in any order and case.
+     * @return the learned value if the table has one, otherwise the sum of per-tile values less a penalty per duplicate.
+     */
+    public float value(CharSequence leave) {
+        int key = encode(leave);
+        if (key >= 0) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return values[index];
+            }
+        }
+
+        float total = 0;
+        int[] seen = new int[BLANK_CODE + 1];
+        for (int i = 0; i < leave.length(); i++) {
+            int code = tileCode(leave.charAt(i));
+            total += tileValues[code];
+            if (code != 0 && seen[code]++ > 0) {
+                total += DUPLICATE_PENALTY;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns a move's equity: its score plus the value of the tiles left on the rack after it.
+     *
+     * @param move the move.
+     * @param rack the rack the move is played from.
+     * @return the move's equity.
+     */
+    public double equity(Move move, List<Character> rack) {
+        return move.getScore() + value(leaveAfter(move, rack));
+    }
+
+    /**
+     * Finds the best tiles to keep when exchanging: the subset of the rack, smaller than the whole rack,
+     * with the highest leave value. Racks with repeated tiles have fewer distinct subsets, and each is valued
+     * once, so a seven-tile rack needs at most 127 lookups.
+     *
+     * @param rack the tiles on the rack, at most {@code MAX_LEAVE + 1}; blanks are ' ' or '?'.
+     * @return the tiles to keep, sorted, with blanks as '?'; empty if exchanging the whole rack is best.
+     * @throws IllegalArgumentException if the rack is empty or too large to enumerate.
+     */
+    public String bestExchangeLeave(List<Character> rack) {
+        int size = rack.size();
+        if (size == 0 || size > MAX_LEAVE + 1) {
+            throw new IllegalArgumentException("Cannot exchange from a rack of " + size + " tiles.");
+        }
+        char[] tiles = new char[size];
+        for (int i = 0; i < size; i++) {
+            char tile = rack.get(i);
+            tiles[i] = tile == ' ' || tile == '?' ? '?' : Character.toUpperCase(tile);
+        }
+        Arrays.sort(tiles);
+
+        String best = "";
+        float bestValue = value(best);
+        StringBuilder keep = new StringBuilder(size);
+        int all = (1 << size) - 1;
+        for (int subset = 1; subset < all; subset++) {
+            // Of equal tiles, a subset keeps the leftmost ones, so each multiset of tiles is valued once
+            boolean canonical = true;
+            for (int i = 1; i < size && canonical; i++) {
+                canonical = tiles[i] != tiles[i - 1] || (subset & (1 << i)) == 0 || (subset & (1 << (i - 1))) != 0;
+            }
+            if (!canonical) {
+                continue;
+            }
+            keep.setLength(0);
+            for (int i = 0; i < size; i++) {
+                if ((subset & (1 << i)) != 0) {
+                    keep.append(tiles[i]);
+                }
+            }
+            float subsetValue = value(keep);
+            if (subsetValue > bestValue) {
+                bestValue = subsetValue;
+                best = keep.toString();
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Works out the tiles left on a rack after a move. Lower-case letters were played with blanks,
+     * as were any letters the rack does not hold.
+     *
+     * @param move the move.
+     * @param rack the rack the move is played from.
+     * @return the remaining tiles.
+     */
+    public static String leaveAfter(Move move, List<Character> rack) {
+        StringBuilder leave = new StringBuilder(rack.size());
+        for (char tile : rack) {
+            leave.append(tile);
+        }
+        String placed = move.getPlacedTiles();
+        for (int i = 0; i < placed.length(); i++) {
+            char letter = placed.charAt(i);
+            int index = Character.isLowerCase(letter) ? -1 : indexOfIgnoreCase(leave, letter);
+            if (index < 0) {
+                index = indexOfBlank(leave);
+            }
+            if (index >= 0) {
+                leave.deleteCharAt(index);
+            }
+        }
+        return leave.toString();
+    }
+
+    /**
+     * Returns the number of learned entries.
+     *
+     * @return the entry count.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    private static int indexOfBlank(CharSequence tiles) {
+        for (int i = 0; i < tiles.length(); i++) {
+            if (tiles.charAt(i) == ' ' || tiles.charAt(i) == '?') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOfIgnoreCase(CharSequence tiles, char letter) {
+        char upper = Character.toUpperCase(letter);
+        for (int i = 0; i < tiles.length(); i++) {
+            if (Character.toUpperCase(tiles.charAt(i)) == upper) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int tileCode(char tile) {
+        if (tile == ' ' || tile == '?') {
+            return BLANK_CODE;
+        }
+        char upper = Character.toUpperCase(tile);
+        return upper >= 'A' && upper <= 'Z' ? upper - 'A' + 1 : 0;
+    }
+}
@@ -0,0 +1,192 @@
+package src;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * The LeaveTableBuilder class learns leave values by self-play and writes them as a {@link LeaveTable} file.
+ *
+ * <p>Two AI players play complete games against each other without the GUI, each choosing the move with the
+ * highest equity under the heuristic table. After every move that draws new tiles, the tiles kept are recorded
+ * together with the points the same player scores on their next turn. A leave's value is how much that next
+ * score beats the average next score; each kept tile is credited the same way, which gives every tile a learned
+ * value even when most full leaves are too rare to keep. Leaves seen fewer than {@code minSamples} times are
+ * dropped and valued tile by tile at play time. Run it offline and ship the result next to the word list:
+ * <pre>
+ *     java src.LeaveTableBuilder resources/wordlist.txt resources/leaves.bin 5000
+ * </pre>
+ */
+public class LeaveTableBuilder {
+    private static final int RACK_SIZE = 7;
+    private static final int BOARD_SIZE = 15;
+    private static final int DEFAULT_GAMES = 2000;
+    private static final int DEFAULT_MIN_SAMPLES = 20;
+
+    private final Lexicon lexicon;
+    private final LeaveTable policy = LeaveTable.heuristic();
+    private final Random random;
+    // Sum and count of next-turn scores per encoded leave
+    private final Map<Integer, double[]> samples = new HashMap<>();
+    private double totalNextScore;
+    private long totalSamples;
+
+    /**
+     * Creates a builder that plays with the given lexicon.
+     *
+     * @param lexicon the dictionary the self-play games use.
+     * @param seed    the seed for shuffling the tile bag, so runs can be repeated.
+     */
+    public LeaveTableBuilder(Lexicon lexicon, long seed) {
+        this.lexicon = lexicon;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Plays self-play games and writes the learned leave table.
+     *
+     * @param args the word list path, the output path, and optionally the number of games and the minimum sample count.
+     * @throws IOException if the word list cannot be read or the table cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 4) {
+            System.err.println("Usage: java src.LeaveTableBuilder <wordlist> <output.bin> [games] [minSamples]");
+            System.exit(1);
+        }
+        int games = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_GAMES;
+        int minSamples = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_MIN_SAMPLES;
+
+        long start = System.nanoTime();
+        LeaveTableBuilder builder = new LeaveTableBuilder(Lexicon.load(args[0]), 1L);
+        for (int game = 1; game <= games; game++) {
+            builder.playGame();
+            if (game % 100 == 0) {
+                System.out.println("Played " + game + " of " + games + " games.");
+            }
+        }
+        LeaveTable table = builder.build(minSamples);
+        table.writeTo(Paths.get(args[1]));
+        System.out.println("Wrote " + table.size() + " leave values to " + args[1]
+                + " in " + (System.nanoTime() - start) / 1_000_000 + " ms.");
+    }
+
+    /**
+     * Plays one complete game between two AI players and records its leaves.
+     */
+    public void playGame() {
+        char[][] board = new char[BOARD_SIZE][BOARD_SIZE];
+        CrossChecks crossChecks = new CrossChecks(lexicon, board);
+        MoveGenerator generator = new MoveGenerator(lexicon);
+        List<Character> bag = newBag();
+        List<List<Character>> racks = new ArrayList<>();
+        int[] pendingLeave = {-1, -1}; // The leave each player kept last turn, waiting for its next score
+        for (int player = 0; player < 2; player++) {
+            racks.add(new ArrayList<>());
+            draw(bag, racks.get(player));
+        }
+
+        int passes = 0;
+        for (int player = 0; passes < 2; player = 1 - player) {
+            List<Character> rack = racks.get(player);
+            Move best = null;
+            double bestEquity = Double.NEGATIVE_INFINITY;
+            for (Move move : generator.generate(board, rack, crossChecks)) {
+                double equity = policy.equity(move, rack);
+                if (equity > bestEquity) {
+                    best = move;
+                    bestEquity = equity;
+                }
+            }
+
+            int score = best == null ? 0 : best.getScore();
+            if (pendingLeave[player] >= 0) {
+                addSample(pendingLeave[player], score);
+                pendingLeave[player] = -1;
+            }
+            if (best == null) {
+                passes++;
+                continue;
+            }
+            passes = 0;
+
+            String leave = LeaveTable.leaveAfter(best, rack);
+            crossChecks.update(board, best.placeOn(board));
+            rack.clear();
+            for (char tile : leave.toCharArray()) {
+                rack.add(tile);
+            }
+            if (!bag.isEmpty()) {
+                pendingLeave[player] = LeaveTable.encode(leave);
+            }
+            draw(bag, rack);
+            if (rack.isEmpty()) {
+                break; // A player went out
+            }
+        }
+    }
+
+    /**
+     * Turns the recorded samples into a leave table.
+     *
+     * @param minSamples the fewest samples a leave needs to get its own entry.
+     * @return the learned table.
+     */
+    public LeaveTable build(int minSamples) {
+        double mean = totalSamples == 0 ? 0 : totalNextScore / totalSamples;
+        Map<Integer, Float> values = new HashMap<>();
+        for (Map.Entry<Integer, double[]> entry : samples.entrySet()) {
+            double[] sample = entry.getValue();
+            if (sample[1] >= minSamples) {
+                values.put(entry.getKey(), (float) (sample[0] / sample[1] - mean));
+            }
+        }
+        return LeaveTable.fromValues(values);
+    }
+
+    private void addSample(int leaveKey, int nextScore) {
+        totalNextScore += nextScore;
+        totalSamples++;
+        record(leaveKey, nextScore);
+
+        // Credit each distinct tile of the leave as well, so single-tile values are always learned
+        if (leaveKey < 32) {
+            return; // Empty or a single tile, already recorded
+        }
+        int previous = -1;
+        for (int key = leaveKey; key != 0; key >>>= 5) {
+            int code = key & 31;
+            if (code != previous) {
+                record(code, nextScore);
+            }
+            previous = code;
+        }
+    }
+
+    private void record(int key, int nextScore) {
+        double[] sample = samples.computeIfAbsent(key, k -> new double[2]);
+        sample[0] += nextScore;
+        sample[1]++;
+    }
+
+    private List<Character> newBag() {
+        List<Character> bag = new ArrayList<>();
+        for (Map.Entry<Character, Integer> entry : new TileBag().tileCounts.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                bag.add(entry.getKey());
+            }
+        }
+        Collections.shuffle(bag, random);
+        return bag;
+    }
+
+    private static void draw(List<Character> bag, List<Character> rack) {
+        while (rack.size() < RACK_SIZE && !bag.isEmpty()) {
+            rack.add(bag.remove(bag.size() - 1));
+        }
+    }
+}
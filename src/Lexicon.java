@@ -0,0 +1,211 @@
+package src;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * The Lexicon class is one loaded dictionary: its word graph, its GADDAG and its anagram index.
+ *
+ * <p>A Lexicon never changes after it is created, so a single instance can be shared by any number
+ * of games and threads without locking. Validation and AI code take a Lexicon as a parameter;
+ * {@link WordValidity} keeps a default instance for code that still uses the static methods.
+ */
+public class Lexicon {
+    private final Dawg dawg;
+    private final Gaddag gaddag;
+    // Built on first use for mapped lexicons; a racing duplicate build is harmless because the result is identical
+    private volatile AnagramIndex anagramIndex;
+
+    private Lexicon(Dawg dawg, Gaddag gaddag, AnagramIndex anagramIndex) {
+        this.dawg = dawg;
+        this.gaddag = gaddag;
+        this.anagramIndex = anagramIndex;
+    }
+
+    /**
+     * Builds a lexicon from normalized words.
+     *
+     * @param words the words to include, trimmed and in lower case.
+     * @return the new lexicon.
+     */
+    public static Lexicon fromWords(List<String> words) {
+        return new Lexicon(Dawg.build(words), Gaddag.build(words), AnagramIndex.build(words));
+    }
+
+    /**
+     * Reads a text word list (one word per line) and builds a lexicon from it.
+     *
+     * @param filePath the path to the word list.
+     * @return the new lexicon.
+     * @throws IOException if the file cannot be read.
+     */
+    public static Lexicon fromFile(String filePath) throws IOException {
+        return fromWords(WordValidity.readWords(filePath));
+    }
+
+    /**
+     * Loads a lexicon from either kind of file: ".lex" files are mapped as compiled lexicons,
+     * anything else is read as a text word list.
+     *
+     * @param filePath the path to the word list or compiled lexicon.
+     * @return the new lexicon.
+     * @throws IOException if the file cannot be read.
+     */
+    public static Lexicon load(String filePath) throws IOException {
+        return filePath.endsWith(".lex") ? mapCompiledFile(filePath) : fromFile(filePath);
+    }
+
+    /**
+     * Maps a lexicon file produced by {@link LexiconCompiler} into memory.
+     * Lookups read straight from the mapping, so no words are parsed or copied onto the heap,
+     * and processes loading the same file share its pages through the OS cache.
+     * The anagram index is not stored in the file; it is built from the mapped graph on first use.
+     *
+     * @param filePath the path to the compiled lexicon file.
+     * @return the mapped lexicon.
+     * @throws IOException if the file cannot be read or is not a compiled lexicon.
+     */
+    public static Lexicon mapCompiledFile(String filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt() != LexiconCompiler.MAGIC || buffer.getInt() != LexiconCompiler.VERSION) {
+                throw new IOException("Not a compiled lexicon file (or an incompatible version): " + filePath);
+            }
+            Dawg dawg = Dawg.readFrom(buffer);
+            Gaddag gaddag = Gaddag.readFrom(buffer);
+            return new Lexicon(dawg, gaddag, null);
+        }
+    }
+
+    /**
+     * Checks if a word is in the dictionary, ignoring case. Nothing is allocated.
+     *
+     * @param word the word to check.
+     * @return true if the word is valid, false otherwise.
+     */
+    public boolean isWord(CharSequence word) {
+        return dawg.containsIgnoreCase(word);
+    }
+
+    /**
+     * Checks if a run of characters is a word in the dictionary, ignoring case. Nothing is allocated,
+     * so a board row ({@code board[row]}) can be checked in place.
+     *
+     * @param buf the characters to read.
+     * @param off the index of the first character.
+     * @param len the number of characters.
+     * @return true if the characters spell a valid word, false otherwise.
+     */
+    public boolean isWord(char[] buf, int off, int len) {
+        return dawg.containsIgnoreCase(buf, off, len);
+    }
+
+    /**
+     * Checks if the letters in a run of board squares spell a word, ignoring case.
+     * Rows and columns are both read in place, so nothing is allocated.
+     *
+     * @param board      the board to read from.
+     * @param row        the row of the first letter.
+     * @param col        the column of the first letter.
+     * @param horizontal true to read along the row, false down the column.
+     * @param length     the number of squares to read.
+     * @return true if the squares spell a valid word, false otherwise.
+     */
+    public boolean isWordOnBoard(char[][] board, int row, int col, boolean horizontal, int length) {
+        if (horizontal) {
+            return dawg.containsIgnoreCase(board[row], col, length);
+        }
+        int node = Dawg.ROOT;
+        for (int i = 0; i < length && node >= 0; i++) {
+            node = dawg.child(node, Character.toLowerCase(board[row + i][col]));
+        }
+        return node >= 0 && dawg.isTerminal(node);
+    }
+
+    /**
+     * Checks if at least one word starts with the given letters, ignoring case.
+     *
+     * @param prefix the letters to check.
+     * @return true if some word begins with the prefix, false otherwise.
+     */
+    public boolean isPrefix(String prefix) {
+        return dawg.isPrefix(prefix.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Lists every word that can be formed from some or all of the given tiles; blanks (' ') match any letter.
+     *
+     * @param rack the tiles available.
+     * @return the words the rack can form, in lower case.
+     */
+    public List<String> wordsFromRack(List<Character> rack) {
+        return anagramIndex().wordsFromRack(rack);
+    }
+
+    /**
+     * Streams the words matching a pattern in which '?' stands for any letter; see {@link Dawg#match}.
+     *
+     * @param pattern the pattern to match, in any case.
+     * @return a lazy stream of matching words in lower case.
+     */
+    public Stream<String> match(String pattern) {
+        return dawg.match(pattern.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Streams the words of a given length that have specific letters at specific 0-based offsets.
+     *
+     * @param length       the length of the words wanted.
+     * @param fixedLetters the required letter at each constrained offset.
+     * @return a lazy stream of matching words in lower case.
+     * @throws IllegalArgumentException if an offset falls outside the word.
+     */
+    public Stream<String> wordsWithLetters(int length, Map<Integer, Character> fixedLetters) {
+        char[] pattern = new char[length];
+        Arrays.fill(pattern, Dawg.WILDCARD);
+        for (Map.Entry<Integer, Character> fixed : fixedLetters.entrySet()) {
+            int offset = fixed.getKey();
+            if (offset < 0 || offset >= length) {
+                throw new IllegalArgumentException("Offset " + offset + " is outside a word of length " + length + ".");
+            }
+            pattern[offset] = fixed.getValue();
+        }
+        return match(new String(pattern));
+    }
+
+    /**
+     * Returns the number of distinct words in the lexicon.
+     *
+     * @return the word count.
+     */
+    public int wordCount() {
+        return dawg.wordCount();
+    }
+
+    public Dawg dawg() {
+        return dawg;
+    }
+
+    public Gaddag gaddag() {
+        return gaddag;
+    }
+
+    public AnagramIndex anagramIndex() {
+        AnagramIndex index = anagramIndex;
+        if (index == null) {
+            index = AnagramIndex.build(dawg.words());
+            anagramIndex = index;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,79 @@
+package src;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * The LexiconCompiler class turns a text word list into a binary lexicon file that
+ * {@link WordValidity#loadCompiledFile} maps into memory at startup, skipping all text parsing.
+ *
+ * <p>The file holds a header (magic number and format version) followed by the word graph and the
+ * GADDAG in the layout written by {@link Dawg#writeTo}. Run it once whenever the word list changes:
+ * <pre>
+ *     java src.LexiconCompiler resources/wordlist.txt resources/wordlist.lex
+ * </pre>
+ */
+public class LexiconCompiler {
+    /** Identifies a compiled lexicon file ("SLEX"). */
+    public static final int MAGIC = 0x534C4558;
+    /** Version of the binary layout; bumped whenever the layout changes. */
+    public static final int VERSION = 1;
+
+    /**
+     * Default constructor for the LexiconCompiler class.
+     */
+    public LexiconCompiler() {
+        // Default constructor
+    }
+
+    /**
+     * Compiles a word list file into a binary lexicon file.
+     *
+     * @param args the text word list path followed by the output path.
+     * @throws IOException if either file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: java src.LexiconCompiler <wordlist.txt> <output.lex>");
+            System.exit(1);
+        }
+        long start = System.nanoTime();
+        List<String> words = WordValidity.readWords(args[0]);
+        compile(words, Paths.get(args[1]));
+        System.out.println("Compiled " + words.size() + " words into " + args[1]
+                + " in " + (System.nanoTime() - start) / 1_000_000 + " ms.");
+    }
+
+    /**
+     * Builds the word graph and GADDAG for the given words and writes them to a lexicon file.
+     *
+     * @param words  the normalized words to compile.
+     * @param output the file to create or overwrite.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void compile(List<String> words, Path output) throws IOException {
+        Dawg dawg = Dawg.build(words);
+        Gaddag gaddag = Gaddag.build(words);
+
+        ByteBuffer buffer = ByteBuffer.allocate(8 + dawg.serializedSize() + gaddag.graph().serializedSize());
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        dawg.writeTo(buffer);
+        gaddag.writeTo(buffer);
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package src;
+
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The LexiconRegistry class maps dictionary names to word list files and hands out shared {@link Lexicon}s.
+ *
+ * <p>A lexicon is loaded the first time its name is requested and the same instance is then returned to
+ * every game that asks for it. Loaded lexicons are held through soft references, so the JVM may drop
+ * the ones no game is using when memory runs short; they are loaded again on the next request.
+ * Files ending in ".lex" are mapped as compiled lexicons, anything else is read as a text word list.
+ */
+public class LexiconRegistry {
+    /** Name of the dictionary shipped with the game. */
+    public static final String DEFAULT_NAME = "default";
+
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    static {
+        // Prefer the precompiled lexicon (see LexiconCompiler); fall back to parsing the text list
+        String compiled = "resources/wordlist.lex";
+        register(DEFAULT_NAME, Files.exists(Paths.get(compiled)) ? compiled : "resources/wordlist.txt");
+    }
+
+    /**
+     * Default constructor for the LexiconRegistry class.
+     */
+    public LexiconRegistry() {
+        // Default constructor
+    }
+
+    /**
+     * Registers a dictionary under a name. Re-registering a name points it at the new file;
+     * games already holding the old lexicon keep using it.
+     *
+     * @param name     the name games will ask for, such as "tournament" or "kids".
+     * @param filePath the text word list or compiled ".lex" file to load it from.
+     */
+    public static void register(String name, String filePath) {
+        entries.put(name, new Entry(filePath));
+    }
+
+    /**
+     * Checks whether a dictionary name has been registered.
+     *
+     * @param name the dictionary name.
+     * @return true if {@link #get} can load it.
+     */
+    public static boolean isRegistered(String name) {
+        return entries.containsKey(name);
+    }
+
+    /**
+     * Retrieves the file a dictionary name is loaded from.
+     *
+     * @param name the dictionary name.
+     * @return the registered file path, or null if the name is not registered.
+     */
+    public static String getFilePath(String name) {
+        Entry entry = entries.get(name);
+        return entry == null ? null : entry.filePath;
+    }
+
+    /**
+     * Lists the registered dictionary names.
+     *
+     * @return the names, sorted.
+     */
+    public static Set<String> getNames() {
+        return new TreeSet<>(entries.keySet());
+    }
+
+    /**
+     * Returns the lexicon registered under a name, loading it if it is not already in memory.
+     * Concurrent callers asking for the same name wait for a single load and share its result.
+     *
+     * @param name the dictionary name.
+     * @return the shared lexicon.
+     * @throws IllegalArgumentException if no dictionary is registered under the name.
+     * @throws IllegalStateException if the dictionary file cannot be loaded.
+     */
+    public static Lexicon get(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("No lexicon is registered under the name '" + name + "'.");
+        }
+        return entry.get(name);
+    }
+
+    /**
+     * Drops the cached copy of a dictionary so that the next request reloads it.
+     * Games already holding the lexicon keep using it until they let it go.
+     *
+     * @param name the dictionary name.
+     */
+    public static void unload(String name) {
+        Entry entry = entries.get(name);
+        if (entry != null) {
+            entry.clear();
+        }
+    }
+
+    /**
+     * Hands a freshly loaded lexicon to every dictionary registered with the given file, as when the file is
+     * reloaded after an edit. Games that ask for those names from now on get the new lexicon; games already
+     * holding the old one keep using it until they ask again.
+     *
+     * @param filePath the file the lexicon was loaded from.
+     * @param lexicon  the new lexicon.
+     */
+    public static void replace(String filePath, Lexicon lexicon) {
+        Path path = normalize(filePath);
+        for (Entry entry : entries.values()) {
+            if (normalize(entry.filePath).equals(path)) {
+                entry.set(lexicon);
+            }
+        }
+    }
+
+    private static Path normalize(String filePath) {
+        return Paths.get(filePath).toAbsolutePath().normalize();
+    }
+
+    /**
+     * A registered file and its softly held lexicon.
+     */
+    private static class Entry {
+        private final String filePath;
+        private volatile SoftReference<Lexicon> cached = new SoftReference<>(null);
+
+        Entry(String filePath) {
+            this.filePath = filePath;
+        }
+
+        Lexicon get(String name) {
+            Lexicon lexicon = cached.get();
+            if (lexicon != null) {
+                return lexicon;
+            }
+            synchronized (this) {
+                lexicon = cached.get();
+                if (lexicon == null) {
+                    lexicon = load(name);
+                    cached = new SoftReference<>(lexicon);
+                }
+                return lexicon;
+            }
+        }
+
+        synchronized void set(Lexicon lexicon) {
+            cached = new SoftReference<>(lexicon);
+        }
+
+        synchronized void clear() {
+            cached = new SoftReference<>(null);
+        }
+
+        private Lexicon load(String name) {
+            long start = System.nanoTime();
+            try {
+                Lexicon lexicon = Lexicon.load(filePath);
+                System.out.println("Loaded lexicon '" + name + "' (" + lexicon.wordCount() + " words) from "
+                        + filePath + " in " + (System.nanoTime() - start) / 1_000_000 + " ms.");
+                return lexicon;
+            } catch (Exception e) {
+                throw new IllegalStateException("Could not load lexicon '" + name + "' from " + filePath + ".", e);
+            }
+        }
+    }
+}
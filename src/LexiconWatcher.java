@@ -0,0 +1,131 @@
+package src;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * The LexiconWatcher class reloads a word list whenever its file changes on disk.
+ *
+ * <p>A daemon thread watches the file's directory. When the file is modified, the new {@link Lexicon}
+ * is built on a separate background thread and then handed to a publisher, normally
+ * {@link WordValidity#setLexicon}, which swaps it in with a single volatile write. Games never wait
+ * for a reload: lookups already in progress finish against the old lexicon and later lookups see the new one.
+ * Bursts of change events (editors often write a file in several steps) are merged into one reload.
+ *
+ * <p>Compiled ".lex" files are memory-mapped, so replace them by writing a new file and renaming it
+ * over the old one rather than rewriting it in place.
+ */
+public class LexiconWatcher implements Closeable {
+    private static final long SETTLE_MILLIS = 250;
+
+    private final Path file;
+    private final Consumer<Lexicon> publisher;
+    private final WatchService watchService;
+    private final ScheduledExecutorService reloader;
+    private final Thread watchThread;
+    private ScheduledFuture<?> pendingReload;
+
+    private LexiconWatcher(Path file, Consumer<Lexicon> publisher) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.publisher = publisher;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lexicon-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchThread = new Thread(this::watchLoop, "lexicon-watch");
+        this.watchThread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching a word list file and publishes a freshly built lexicon after every change.
+     *
+     * @param filePath  the text word list or compiled ".lex" file to watch.
+     * @param publisher receives each newly built lexicon, on the reload thread.
+     * @return the running watcher; close it to stop watching.
+     * @throws IOException if the file's directory cannot be watched.
+     */
+    public static LexiconWatcher watch(String filePath, Consumer<Lexicon> publisher) throws IOException {
+        LexiconWatcher watcher = new LexiconWatcher(Paths.get(filePath), publisher);
+        watcher.watchThread.start();
+        return watcher;
+    }
+
+    /**
+     * Rebuilds the lexicon from the file straight away, without waiting for a change event.
+     * The build runs on the reload thread; this method returns once it has been queued.
+     */
+    public synchronized void reloadNow() {
+        scheduleReload(0);
+    }
+
+    /**
+     * Stops watching the file. A reload that is already running is allowed to finish.
+     * Holds the same lock as scheduling, so no reload can be queued on a reloader that is shutting down.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        watchService.close();
+        reloader.shutdown();
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    Object changed = event.context();
+                    if (changed instanceof Path && file.getFileName().equals(changed)) {
+                        synchronized (this) {
+                            scheduleReload(SETTLE_MILLIS);
+                        }
+                    }
+                }
+                if (!key.reset()) {
+                    break; // The directory is gone
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Watching stops when the watcher is closed
+        }
+    }
+
+    private void scheduleReload(long delayMillis) {
+        if (reloader.isShutdown()) {
+            return;
+        }
+        if (pendingReload != null) {
+            pendingReload.cancel(false);
+        }
+        pendingReload = reloader.schedule(this::reload, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void reload() {
+        long start = System.nanoTime();
+        try {
+            Lexicon lexicon = Lexicon.load(file.toString());
+            publisher.accept(lexicon);
+            System.out.println("Reloaded word list " + file + ": " + lexicon.wordCount() + " words in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms.");
+        } catch (Exception e) {
+            // Keep serving the previous lexicon if the new file is unreadable or half-written
+            System.err.println("Error reloading word list " + file + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package src;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The LineMoveCache class remembers the moves a {@link MoveGenerator} found on each row and column of a board,
+ * so that a later search only regenerates the lines that changed.
+ *
+ * <p>The moves along a line depend only on the rack and on what the generator reads for that line: its letters,
+ * the {@link CrossChecks} masks and cross scores of its squares, and which of its squares are anchors. Each line's
+ * entry keeps a copy of those arrays and the rack they were searched with. A lookup compares them with the
+ * current ones, so a committed move dirties exactly the lines whose contents or cross-checks it changed,
+ * and a different rack dirties every line; undo, redo and loading a game need no special handling.
+ * Only searches that finished are stored.
+ *
+ * <p>A cache holds one entry per line. The searches of different lines may share a cache from several threads,
+ * as {@link ParallelMoveSearch} does, but two searches of the same board must not use one cache at once.
+ */
+public class LineMoveCache {
+    private final int size;
+    // Indexed by line: rows first, then columns
+    private final Entry[] entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param size the width of the boards it will be used with.
+     */
+    public LineMoveCache(int size) {
+        this.size = size;
+        this.entries = new Entry[2 * size];
+    }
+
+    /**
+     * Returns the width of the boards the cache is used with.
+     *
+     * @return the board size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns how many line searches were answered from the cache.
+     *
+     * @return the number of hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns how many line searches had to be run.
+     *
+     * @return the number of misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Forgets every line.
+     */
+    public void clear() {
+        Arrays.fill(entries, null);
+    }
+
+    /**
+     * Returns the moves stored for a line if it is unchanged since they were found.
+     *
+     * @return the stored moves, or null if the line is dirty or was never stored.
+     */
+    List<Move> lookup(boolean horizontal, int line, char[] letters, int[] masks, int[] crossScores, boolean[] anchors,
+                      String rack) {
+        Entry entry = entries[index(horizontal, line)];
+        if (entry != null && entry.rack.equals(rack) && Arrays.equals(entry.letters, letters)
+                && Arrays.equals(entry.masks, masks) && Arrays.equals(entry.crossScores, crossScores)
+                && Arrays.equals(entry.anchors, anchors)) {
+            hits.increment();
+            return entry.moves;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stores the moves found on a line, together with a copy of what they were found from.
+     */
+    void store(boolean horizontal, int line, char[] letters, int[] masks, int[] crossScores, boolean[] anchors,
+               String rack, List<Move> moves) {
+        entries[index(horizontal, line)] = new Entry(letters.clone(), masks.clone(), crossScores.clone(), anchors.clone(),
+                rack, List.copyOf(moves));
+    }
+
+    private int index(boolean horizontal, int line) {
+        return horizontal ? line : size + line;
+    }
+
+    /**
+     * The moves of one line and the line state they were generated from.
+     */
+    private static final class Entry {
+        private final char[] letters;
+        private final int[] masks;
+        private final int[] crossScores;
+        private final boolean[] anchors;
+        private final String rack;
+        private final List<Move> moves;
+
+        Entry(char[] letters, int[] masks, int[] crossScores, boolean[] anchors, String rack, List<Move> moves) {
+            this.letters = letters;
+            this.masks = masks;
+            this.crossScores = crossScores;
+            this.anchors = anchors;
+            this.rack = rack;
+            this.moves = moves;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package src;
+
+/**
+ * The Move class describes a word placed along one row or column of the board.
+ * The word includes any letters that were already on the board inside its span;
+ * the score covers the main word, every cross word and the bonus for using all seven tiles.
+ */
+public class Move {
+    private final int row;
+    private final int col;
+    private final boolean horizontal;
+    private final String word;
+    private final int score;
+    private final String placedTiles;
+
+    /**
+     * Constructs a Move starting at the given square.
+     *
+     * @param row        the row of the first letter.
+     * @param col        the column of the first letter.
+     * @param horizontal true if the word reads left to right, false if top to bottom.
+     * @param word       the full word spelled by the move, in upper case except for blanks, which are in lower case.
+     * @param score      the points the move earns.
+     * @param placedTiles the letters the move puts on the board, in board order; a blank is the lower-case letter it stands for.
+     */
+    public Move(int row, int col, boolean horizontal, String word, int score, String placedTiles) {
+        this.row = row;
+        this.col = col;
+        this.horizontal = horizontal;
+        this.word = word;
+        this.score = score;
+        this.placedTiles = placedTiles;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getCol() {
+        return col;
+    }
+
+    public boolean isHorizontal() {
+        return horizontal;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getTilesPlaced() {
+        return placedTiles.length();
+    }
+
+    public String getPlacedTiles() {
+        return placedTiles;
+    }
+
+    /**
+     * Writes the move's new tiles into a board, leaving squares that already hold a letter alone.
+     *
+     * @param board the board to place the move on.
+     * @return the tiles placed.
+     */
+    public Placement placeOn(char[][] board) {
+        Placement placement = Placement.of(this, board);
+        placement.placeOn(board);
+        return placement;
+    }
+
+    @Override
+    public String toString() {
+        return word + " at (" + row + ", " + col + ") " + (horizontal ? "across" : "down") + " for " + score;
+    }
+}
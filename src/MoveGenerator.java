@@ -0,0 +1,493 @@
+package src;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The MoveGenerator class lists every legal move a rack can make on a board, using a {@link Gaddag}.
+ *
+ * <p>An anchor is an empty square next to a tile already on the board (or the centre square on an empty board).
+ * Every legal move covers at least one anchor. Starting at an anchor, letters are laid leftwards (or upwards)
+ * by following the GADDAG's reversed prefix, then rightwards (or downwards) after crossing the separator,
+ * so words hook through existing tiles on either side. The search only follows GADDAG edges, which prunes
+ * any letter sequence that cannot start a word, and a rack tile may only go on a square whose {@link CrossChecks} mask
+ * allows it, so every move found also forms valid perpendicular words.
+ *
+ * <p>The left part of a word never covers another anchor; that anchor's own search finds those moves,
+ * so each move is generated exactly once. All work is done on primitive arrays for one line at a time.
+ *
+ * <p>A blank on the rack ({@code ' '} or {@code '?'}) is tried as every letter on the same pass over a node's
+ * GADDAG edges as the letter tiles, so blanks share the traversal instead of restarting it per letter. It is
+ * placed as the lower-case letter it stands for and scores nothing. A blank only stands for a letter once the rack
+ * has no tile of that letter left, which keeps a rack with two blanks from multiplying the search. The search
+ * therefore only decides how many copies of a letter are blanks, not which ones: when a move uses a letter both
+ * as a tile and as a blank, it is recorded with the tiles on the squares where they score the most.
+ *
+ * <p>Given a {@link LineMoveCache}, the generator reuses the moves of every line that is unchanged since the cache
+ * last saw it with the same rack, and only searches the others.
+ *
+ * <p>A generator keeps per-search state and must not be shared between threads.
+ */
+public class MoveGenerator {
+    /** Bonus for using every tile on the rack in one move. */
+    public static final int BINGO_BONUS = 50;
+    private static final int RACK_SIZE = 7;
+    private static final int BUDGET_CHECK_MASK = 0xFF; // Check the budget once every 256 steps
+
+    private final Lexicon lexicon;
+    private final Gaddag gaddag;
+    private final Dawg gaddagGraph;
+
+    // Board-wide state for the current search
+    private char[][] board;
+    private int size;
+    private boolean horizontal;
+    private CrossChecks crossChecks;
+    private boolean[][] anchors;
+    private final int[] rackCounts = new int[26];
+    private int blanks;
+    private List<Move> moves;
+    private SearchBudget budget;
+    private LineMoveCache cache;
+    private String rackKey; // The rack's tile counts, identifying it in the cache
+    private boolean stopped;
+    private int steps;
+
+    // The line currently being searched, copied out so the recursion only touches flat arrays
+    private int line;
+    private int anchor;
+    private char[] lineLetters;
+    private int[] lineCross;
+    private int[] lineCrossScore;
+    private boolean[] lineAnchor;
+    private int[] letterMultipliers;
+    private int[] wordMultipliers;
+    private char[] placed;
+
+    /**
+     * Constructs a MoveGenerator for the given lexicon.
+     *
+     * @param lexicon the dictionary moves must be drawn from.
+     */
+    public MoveGenerator(Lexicon lexicon) {
+        this.lexicon = lexicon;
+        this.gaddag = lexicon.gaddag();
+        this.gaddagGraph = gaddag.graph();
+    }
+
+    /**
+     * Finds the anchor squares of a board: empty squares orthogonally adjacent to a tile,
+     * or the centre square if the board is empty.
+     *
+     * @param board the current board; '\0' marks an empty square.
+     * @return the anchor squares, as (row, col) points.
+     */
+    public static List<Point> findAnchors(char[][] board) {
+        List<Point> anchors = new ArrayList<>();
+        boolean[][] isAnchor = anchorGrid(board);
+        for (int row = 0; row < board.length; row++) {
+            for (int col = 0; col < board[row].length; col++) {
+                if (isAnchor[row][col]) {
+                    anchors.add(new Point(row, col));
+                }
+            }
+        }
+        return anchors;
+    }
+
+    /**
+     * Lists every legal move the rack can make on the board, each with its score.
+     *
+     * @param board the current board; '\0' marks an empty square.
+     * @param rack  the tiles available to the player.
+     * @return all legal moves, in no particular order.
+     */
+    public List<Move> generate(char[][] board, List<Character> rack) {
+        return generate(board, rack, new CrossChecks(lexicon, board));
+    }
+
+    /**
+     * Lists every legal move the rack can make on the board, reusing cross-checks that are already
+     * up to date, such as the table {@code ScrabbleController} maintains between turns.
+     *
+     * @param board       the current board; '\0' marks an empty square.
+     * @param rack        the tiles available to the player.
+     * @param crossChecks the cross-checks of the board, computed with this generator's lexicon.
+     * @return all legal moves, in no particular order.
+     */
+    public List<Move> generate(char[][] board, List<Character> rack, CrossChecks crossChecks) {
+        return generate(board, rack, crossChecks, SearchBudget.UNLIMITED);
+    }
+
+    /**
+     * Lists the legal moves the rack can make on the board, stopping early if the budget runs out.
+     * The budget is checked regularly during the search, so a stopped search returns every move found up to then.
+     *
+     * @param board       the current board; '\0' marks an empty square.
+     * @param rack        the tiles available to the player.
+     * @param crossChecks the cross-checks of the board, computed with this generator's lexicon.
+     * @param budget      the time allowed and the cancellation signal.
+     * @return the moves found, in no particular order.
+     */
+    public List<Move> generate(char[][] board, List<Character> rack, CrossChecks crossChecks, SearchBudget budget) {
+        return generate(board, rack, crossChecks, budget, null);
+    }
+
+    /**
+     * Lists the legal moves the rack can make on the board, taking the moves of unchanged lines from a cache
+     * and storing the lines it had to search. The moves come out in the same order as without the cache.
+     *
+     * @param board       the current board; '\0' marks an empty square.
+     * @param rack        the tiles available to the player.
+     * @param crossChecks the cross-checks of the board, computed with this generator's lexicon.
+     * @param budget      the time allowed and the cancellation signal.
+     * @param cache       the moves of earlier searches with this generator's lexicon, or null to search every line.
+     * @return the moves found, in no particular order.
+     * @throws IllegalArgumentException if the cache is for another board size.
+     */
+    public List<Move> generate(char[][] board, List<Character> rack, CrossChecks crossChecks, SearchBudget budget,
+                               LineMoveCache cache) {
+        prepare(board, rack, crossChecks, budget, cache);
+        for (boolean across : new boolean[]{true, false}) {
+            // A stopped search still takes unchanged lines from the cache
+            for (int l = 0; l < size && (!stopped || cache != null); l++) {
+                searchLine(across, l);
+            }
+        }
+        return moves;
+    }
+
+    /**
+     * Lists the legal moves whose tiles all lie on one row or column. Lines are independent of each other,
+     * so separate generators can search different lines of the same board at the same time.
+     *
+     * @param board       the current board; '\0' marks an empty square.
+     * @param rack        the tiles available to the player.
+     * @param crossChecks the cross-checks of the board, computed with this generator's lexicon.
+     * @param horizontal  true to search a row, false a column.
+     * @param line        the index of the row or column.
+     * @param budget      the time allowed and the cancellation signal.
+     * @return the moves along that line found within the budget, in no particular order.
+     */
+    public List<Move> generateLine(char[][] board, List<Character> rack, CrossChecks crossChecks, boolean horizontal, int line,
+                                   SearchBudget budget) {
+        return generateLine(board, rack, crossChecks, horizontal, line, budget, null);
+    }
+
+    /**
+     * Lists the legal moves whose tiles all lie on one row or column, reusing the line's cached moves if it is unchanged.
+     *
+     * @param board       the current board; '\0' marks an empty square.
+     * @param rack        the tiles available to the player.
+     * @param crossChecks the cross-checks of the board, computed with this generator's lexicon.
+     * @param horizontal  true to search a row, false a column.
+     * @param line        the index of the row or column.
+     * @param budget      the time allowed and the cancellation signal.
+     * @param cache       the moves of earlier searches with this generator's lexicon, or null to search the line.
+     * @return the moves along that line found within the budget, in no particular order.
+     * @throws IllegalArgumentException if the cache is for another board size.
+     */
+    public List<Move> generateLine(char[][] board, List<Character> rack, CrossChecks crossChecks, boolean horizontal, int line,
+                                   SearchBudget budget, LineMoveCache cache) {
+        prepare(board, rack, crossChecks, budget, cache);
+        searchLine(horizontal, line);
+        return moves;
+    }
+
+    /**
+     * Returns the highest-scoring legal move for a rack.
+     *
+     * @param board the current board; '\0' marks an empty square.
+     * @param rack  the tiles available to the player.
+     * @return the best move, or null if the rack has no legal move.
+     */
+    public Move findBestMove(char[][] board, List<Character> rack) {
+        Move best = null;
+        for (Move move : generate(board, rack)) {
+            if (best == null || move.getScore() > best.getScore()) {
+                best = move;
+            }
+        }
+        return best;
+    }
+
+    private void prepare(char[][] board, List<Character> rack, CrossChecks crossChecks, SearchBudget budget,
+                         LineMoveCache cache) {
+        if (cache != null && cache.size() != board.length) {
+            throw new IllegalArgumentException("The cache is for " + cache.size() + "-square lines, not " + board.length + ".");
+        }
+        this.board = board;
+        this.cache = cache;
+        this.budget = budget;
+        this.stopped = budget.isExhausted();
+        this.steps = 0;
+        this.crossChecks = crossChecks;
+        this.size = board.length;
+        this.moves = new ArrayList<>();
+        this.anchors = anchorGrid(board);
+        this.lineLetters = new char[size];
+        this.lineCross = new int[size];
+        this.lineCrossScore = new int[size];
+        this.lineAnchor = new boolean[size];
+        this.letterMultipliers = new int[size];
+        this.wordMultipliers = new int[size];
+        this.placed = new char[size];
+
+        Arrays.fill(rackCounts, 0);
+        blanks = 0;
+        for (char tile : rack) {
+            char letter = Character.toLowerCase(tile);
+            if (letter >= 'a' && letter <= 'z') {
+                rackCounts[letter - 'a']++;
+            } else if (tile == ' ' || tile == '?') {
+                blanks++;
+            }
+        }
+        if (cache != null) {
+            char[] counts = new char[27];
+            for (int i = 0; i < 26; i++) {
+                counts[i] = (char) ('0' + rackCounts[i]);
+            }
+            counts[26] = (char) ('0' + blanks);
+            rackKey = new String(counts);
+        }
+    }
+
+    private void searchLine(boolean across, int l) {
+        horizontal = across;
+        line = l;
+        loadLine();
+        if (cache != null) {
+            List<Move> cached = cache.lookup(horizontal, line, lineLetters, lineCross, lineCrossScore, lineAnchor, rackKey);
+            if (cached != null) {
+                moves.addAll(cached);
+                return;
+            }
+        }
+
+        int first = moves.size();
+        for (anchor = 0; anchor < size; anchor++) {
+            if (lineAnchor[anchor] && !stopped) {
+                extend(anchor, Dawg.ROOT, anchor);
+            }
+        }
+        if (cache != null && !stopped) {
+            cache.store(horizontal, line, lineLetters, lineCross, lineCrossScore, lineAnchor, rackKey,
+                    moves.subList(first, moves.size()));
+        }
+    }
+
+    /**
+     * Copies the current line's letters, cross-checks, anchors and premium squares into flat arrays.
+     */
+    private void loadLine() {
+        for (int p = 0; p < size; p++) {
+            int row = horizontal ? line : p;
+            int col = horizontal ? p : line;
+            lineLetters[p] = board[row][col];
+            lineCross[p] = crossChecks.allowed(horizontal, row, col);
+            lineCrossScore[p] = crossChecks.crossScore(horizontal, row, col);
+            lineAnchor[p] = anchors[row][col];
+            letterMultipliers[p] = GameRules.letterMultiplier(row, col);
+            wordMultipliers[p] = GameRules.wordMultiplier(row, col);
+        }
+    }
+
+    /**
+     * Fills the square at {@code pos} from the board or the rack and follows the matching GADDAG edge.
+     */
+    private void extend(int pos, int node, int start) {
+        // Reading the clock on every call would cost more than the step itself
+        if ((++steps & BUDGET_CHECK_MASK) == 0 && budget.isExhausted()) {
+            stopped = true;
+        }
+        if (stopped) {
+            return;
+        }
+
+        char existing = lineLetters[pos];
+        if (existing != '\0') {
+            int next = gaddag.child(node, Character.toLowerCase(existing));
+            if (next >= 0) {
+                advance(pos, next, start);
+            }
+            return;
+        }
+
+        int allowed = lineCross[pos];
+        int end = gaddagGraph.edgeEnd(node);
+        for (int e = gaddagGraph.edgeStart(node); e < end; e++) {
+            char letter = gaddagGraph.edgeLetter(e);
+            if (letter < 'a' || letter > 'z') continue;
+            int index = letter - 'a';
+            if ((allowed & (1 << index)) == 0) continue;
+
+            if (rackCounts[index] > 0) {
+                rackCounts[index]--;
+                placed[pos] = Character.toUpperCase(letter);
+                advance(pos, gaddagGraph.edgeTarget(e), start);
+                rackCounts[index]++;
+            } else if (blanks > 0) {
+                blanks--;
+                placed[pos] = letter; // Lower case marks a blank
+                advance(pos, gaddagGraph.edgeTarget(e), start);
+                blanks++;
+            }
+            placed[pos] = '\0';
+        }
+    }
+
+    /**
+     * Continues the search after the square at {@code pos} has been filled.
+     * Left of (or at) the anchor the word may either keep growing left or switch direction;
+     * right of the anchor it keeps growing right until it can end.
+     */
+    private void advance(int pos, int node, int start) {
+        if (pos <= anchor) {
+            start = pos;
+            if (isEmpty(pos - 1)) {
+                int suffix = gaddag.child(node, Gaddag.SEPARATOR);
+                if (suffix >= 0) {
+                    if (gaddag.isTerminal(suffix) && isEmpty(anchor + 1)) {
+                        record(start, anchor);
+                    }
+                    if (anchor + 1 < size) {
+                        extend(anchor + 1, suffix, start);
+                    }
+                }
+            }
+            // Tiles left of the anchor may not cover another anchor; that anchor's search covers those moves
+            if (pos - 1 >= 0 && (lineLetters[pos - 1] != '\0' || !lineAnchor[pos - 1])) {
+                extend(pos - 1, node, start);
+            }
+        } else {
+            if (gaddag.isTerminal(node) && isEmpty(pos + 1)) {
+                record(start, pos);
+            }
+            if (pos + 1 < size) {
+                extend(pos + 1, node, start);
+            }
+        }
+    }
+
+    /**
+     * Scores the word spanning {@code start..end} and adds it to the results.
+     */
+    private void record(int start, int end) {
+        if (end == start) {
+            return; // Single letters only count as part of a perpendicular word
+        }
+
+        int wordMultiplier = 1;
+        boolean hasBlank = false;
+        for (int pos = start; pos <= end; pos++) {
+            if (placed[pos] != '\0') {
+                wordMultiplier *= wordMultipliers[pos];
+                hasBlank |= Character.isLowerCase(placed[pos]);
+            }
+        }
+        char[] tilesAt = Arrays.copyOfRange(placed, start, end + 1);
+        if (hasBlank) {
+            placeTilesOnBestSquares(tilesAt, start, wordMultiplier);
+        }
+
+        int mainScore = 0;
+        int crossTotal = 0;
+        int tiles = 0;
+        int lastPlaced = -1;
+        char[] word = new char[end - start + 1];
+        char[] rackTiles = new char[end - start + 1];
+        for (int pos = start; pos <= end; pos++) {
+            char tile = tilesAt[pos - start];
+            if (tile != '\0') {
+                int value = ScoreCalculation.tileValue(tile) * letterMultipliers[pos];
+                mainScore += value;
+                if (lineCrossScore[pos] != CrossChecks.NO_CROSS_WORD) {
+                    crossTotal += (lineCrossScore[pos] + value) * wordMultipliers[pos];
+                }
+                word[pos - start] = tile;
+                rackTiles[tiles] = tile;
+                tiles++;
+                lastPlaced = pos;
+            } else {
+                mainScore += ScoreCalculation.tileValue(lineLetters[pos]);
+                word[pos - start] = lineLetters[pos];
+            }
+        }
+
+        // A lone tile that also forms an across word was already found by the across search
+        if (!horizontal && tiles == 1 && lineCrossScore[lastPlaced] != CrossChecks.NO_CROSS_WORD) {
+            return;
+        }
+
+        int score = mainScore * wordMultiplier + crossTotal + (tiles == RACK_SIZE ? BINGO_BONUS : 0);
+        int row = horizontal ? line : start;
+        int col = horizontal ? start : line;
+        moves.add(new Move(row, col, horizontal, new String(word), score, new String(rackTiles, 0, tiles)));
+    }
+
+    /**
+     * Rearranges the placed tiles of a move so that, for every letter played both as a tile and as a blank,
+     * the tiles sit on the squares where a letter's points count the most and the blanks on the others.
+     * A square's weight is its letter multiplier times the word multipliers the letter is counted under:
+     * the main word's and, if the tile forms a perpendicular word, that word's.
+     *
+     * @param tilesAt        the placed tiles from {@code start}, '\0' for squares already on the board.
+     * @param start          the first square of the word.
+     * @param wordMultiplier the main word's multiplier.
+     */
+    private void placeTilesOnBestSquares(char[] tilesAt, int start, int wordMultiplier) {
+        int[] weights = new int[tilesAt.length];
+        for (int i = 0; i < tilesAt.length; i++) {
+            int pos = start + i;
+            int crossMultiplier = lineCrossScore[pos] != CrossChecks.NO_CROSS_WORD ? wordMultipliers[pos] : 0;
+            weights[i] = letterMultipliers[pos] * (wordMultiplier + crossMultiplier);
+        }
+        for (int i = 0; i < tilesAt.length; i++) {
+            if (!Character.isLowerCase(tilesAt[i])) continue;
+            // Swap this blank with the same letter's tile on a lighter square, taking the lightest
+            int lightest = -1;
+            for (int j = 0; j < tilesAt.length; j++) {
+                if (tilesAt[j] == Character.toUpperCase(tilesAt[i]) && weights[j] < weights[i]
+                        && (lightest < 0 || weights[j] < weights[lightest])) {
+                    lightest = j;
+                }
+            }
+            if (lightest >= 0) {
+                tilesAt[lightest] = tilesAt[i];
+                tilesAt[i] = Character.toUpperCase(tilesAt[i]);
+            }
+        }
+    }
+
+    private boolean isEmpty(int pos) {
+        return pos < 0 || pos >= size || lineLetters[pos] == '\0';
+    }
+
+    private static boolean[][] anchorGrid(char[][] board) {
+        boolean[][] isAnchor = new boolean[board.length][board.length];
+        boolean empty = true;
+        for (int row = 0; row < board.length; row++) {
+            for (int col = 0; col < board[row].length; col++) {
+                if (board[row][col] != '\0') {
+                    empty = false;
+                } else {
+                    isAnchor[row][col] = hasNeighbour(board, row, col);
+                }
+            }
+        }
+        if (empty) {
+            isAnchor[board.length / 2][board.length / 2] = true;
+        }
+        return isAnchor;
+    }
+
+    private static boolean hasNeighbour(char[][] board, int row, int col) {
+        return (row > 0 && board[row - 1][col] != '\0')
+                || (row < board.length - 1 && board[row + 1][col] != '\0')
+                || (col > 0 && board[row][col - 1] != '\0')
+                || (col < board[row].length - 1 && board[row][col + 1] != '\0');
+    }
+}
@@ -0,0 +1,285 @@
+package src;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * The MoveSimulator class chooses between the AI's best candidate moves by playing each one out a few turns
+ * against random opponent racks (Monte Carlo simulation).
+ *
+ * <p>One sample of a candidate places it on a copy of the board, deals the opponent a rack drawn from the
+ * unseen tiles (the bag plus the opponents' racks, which the AI cannot tell apart) and refills the AI's rack
+ * from what is left. The opponent then plays its best move by equity and, with three plies, so does the AI.
+ * The sample's outcome is the candidate's score minus the opponent's reply, plus either the AI's follow-up
+ * score or, with two plies, the value of the tiles the candidate kept.
+ *
+ * <p>Samples are run in rounds on a work-stealing {@link ForkJoinPool}. After each round, candidates whose
+ * average is clearly behind the leader's (by more than two standard errors of both) get no further samples,
+ * so the remaining time goes to the moves that are still close. Simulation stops when the budget runs out,
+ * when one candidate is left, or after {@code maxSamples} samples per candidate.
+ *
+ * <p>A simulator owns its pool; close it when it is no longer needed.
+ */
+public class MoveSimulator implements Closeable {
+    private static final int RACK_SIZE = 7;
+    private static final int SAMPLES_PER_ROUND = 4;
+
+    private final Lexicon lexicon;
+    private final LeaveTable leaves;
+    private final ForkJoinPool pool;
+    private final int plies;
+    private final int maxSamples;
+
+    /**
+     * Creates a simulator.
+     *
+     * @param lexicon     the dictionary both sides play with.
+     * @param leaves      the leave values used to choose simulated moves and to value two-ply outcomes.
+     * @param parallelism the number of worker threads, at least 1.
+     * @param plies       how many turns to play out, 2 (the opponent's reply) or 3 (and the AI's next move).
+     * @param maxSamples  the most samples to run for any one candidate.
+     * @throws IllegalArgumentException if an argument is out of range.
+     */
+    public MoveSimulator(Lexicon lexicon, LeaveTable leaves, int parallelism, int plies, int maxSamples) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism + ".");
+        }
+        if (plies != 2 && plies != 3) {
+            throw new IllegalArgumentException("Simulations play out 2 or 3 plies, got " + plies + ".");
+        }
+        if (maxSamples < 1) {
+            throw new IllegalArgumentException("At least one sample is needed, got " + maxSamples + ".");
+        }
+        this.lexicon = lexicon;
+        this.leaves = leaves;
+        this.pool = new ForkJoinPool(parallelism);
+        this.plies = plies;
+        this.maxSamples = maxSamples;
+    }
+
+    /**
+     * Simulates the candidates and returns them ordered by their average outcome.
+     * Candidates that were never sampled keep their original order after the sampled ones.
+     *
+     * @param board      the current board; it is not modified.
+     * @param rack       the AI's tiles.
+     * @param unseen     the tiles the AI cannot see: the bag plus every opponent's rack.
+     * @param candidates the moves to compare, usually the best few by equity.
+     * @param budget     the time allowed and the cancellation signal.
+     * @return the candidates, best first.
+     */
+    public List<Move> rank(char[][] board, List<Character> rack, List<Character> unseen, List<Move> candidates, SearchBudget budget) {
+        return rank(board, new CrossChecks(lexicon, board), rack, unseen, candidates, budget);
+    }
+
+    /**
+     * Simulates the candidates from a position whose cross-checks are already known, and returns them ordered
+     * by their average outcome. Each sample copies the table and updates it around the tiles it places,
+     * instead of computing it again for the whole board.
+     *
+     * @param board       the current board; it is not modified.
+     * @param crossChecks the cross-checks of the board, computed with this simulator's lexicon; it is not modified.
+     * @param rack        the AI's tiles.
+     * @param unseen      the tiles the AI cannot see: the bag plus every opponent's rack.
+     * @param candidates  the moves to compare, usually the best few by equity.
+     * @param budget      the time allowed and the cancellation signal.
+     * @return the candidates, best first.
+     */
+    public List<Move> rank(char[][] board, CrossChecks crossChecks, List<Character> rack, List<Character> unseen,
+                           List<Move> candidates, SearchBudget budget) {
+        int count = candidates.size();
+        Stats[] stats = new Stats[count];
+        for (int i = 0; i < count; i++) {
+            stats[i] = new Stats(candidates.get(i));
+        }
+        if (count < 2) {
+            return new ArrayList<>(candidates);
+        }
+
+        SplittableRandom seeds = new SplittableRandom();
+        List<Integer> contenders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            contenders.add(i);
+        }
+
+        long start = System.nanoTime();
+        int total = 0;
+        for (int taken = 0; contenders.size() > 1 && taken < maxSamples && !budget.isExhausted(); taken += SAMPLES_PER_ROUND) {
+            List<Callable<double[]>> round = new ArrayList<>();
+            for (int index : contenders) {
+                for (int s = 0; s < SAMPLES_PER_ROUND; s++) {
+                    SplittableRandom random = seeds.split();
+                    Move move = candidates.get(index);
+                    round.add(() -> new double[]{index, sample(board, crossChecks, rack, unseen, move, random, budget)});
+                }
+            }
+            for (Future<double[]> result : pool.invokeAll(round)) {
+                double[] outcome;
+                try {
+                    outcome = result.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return sortByMean(stats);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("A simulation failed.", e.getCause());
+                }
+                if (!Double.isNaN(outcome[1])) {
+                    stats[(int) outcome[0]].add(outcome[1]);
+                    total++;
+                }
+            }
+            contenders = prune(contenders, stats);
+        }
+        System.out.println("Simulated " + total + " samples over " + count + " candidates in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms; " + contenders.size() + " still in contention.");
+
+        return sortByMean(stats);
+    }
+
+    /**
+     * Stops the worker threads. A simulation already running is allowed to finish.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Orders sampled candidates by their average outcome, followed by the unsampled ones in their original order.
+     */
+    private static List<Move> sortByMean(Stats[] stats) {
+        List<Stats> order = new ArrayList<>(List.of(stats));
+        order.sort((a, b) -> a.samples == 0 || b.samples == 0
+                ? Boolean.compare(a.samples == 0, b.samples == 0)
+                : Double.compare(b.mean(), a.mean()));
+        List<Move> ranked = new ArrayList<>(order.size());
+        for (Stats stat : order) {
+            ranked.add(stat.move);
+        }
+        return ranked;
+    }
+
+    /**
+     * Keeps the candidates whose upper bound still reaches the leader's lower bound.
+     */
+    private static List<Integer> prune(List<Integer> contenders, Stats[] stats) {
+        Stats leader = null;
+        for (int index : contenders) {
+            if (stats[index].samples > 1 && (leader == null || stats[index].mean() > leader.mean())) {
+                leader = stats[index];
+            }
+        }
+        if (leader == null) {
+            return contenders;
+        }
+        List<Integer> kept = new ArrayList<>();
+        for (int index : contenders) {
+            Stats stat = stats[index];
+            if (stat.samples < 2 || stat.mean() + 2 * stat.standardError() >= leader.mean() - 2 * leader.standardError()) {
+                kept.add(index);
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Plays one random continuation of a candidate.
+     *
+     * @return the outcome in points, or NaN if the budget ran out before the sample finished.
+     */
+    private double sample(char[][] board, CrossChecks crossChecks, List<Character> rack, List<Character> unseen, Move move,
+                          SplittableRandom random, SearchBudget budget) {
+        if (budget.isExhausted()) {
+            return Double.NaN;
+        }
+        char[][] copy = new char[board.length][];
+        for (int row = 0; row < board.length; row++) {
+            copy[row] = board[row].clone();
+        }
+        CrossChecks checks = new CrossChecks(crossChecks);
+        checks.update(copy, move.placeOn(copy));
+
+        List<Character> tiles = new ArrayList<>(unseen);
+        Collections.shuffle(tiles, new Random(random.nextLong()));
+        List<Character> opponentRack = new ArrayList<>(tiles.subList(0, Math.min(RACK_SIZE, tiles.size())));
+
+        String leave = LeaveTable.leaveAfter(move, rack);
+        MoveGenerator generator = new MoveGenerator(lexicon);
+        Move reply = bestByEquity(generator.generate(copy, opponentRack, checks, budget), opponentRack);
+        if (budget.isExhausted()) {
+            return Double.NaN;
+        }
+        double outcome = move.getScore() - (reply == null ? 0 : reply.getScore());
+        if (plies == 2) {
+            return outcome + leaves.value(leave);
+        }
+
+        List<Character> bag = new ArrayList<>(tiles.subList(opponentRack.size(), tiles.size()));
+        List<Character> ownRack = new ArrayList<>();
+        for (char tile : leave.toCharArray()) {
+            ownRack.add(tile);
+        }
+        while (ownRack.size() < RACK_SIZE && !bag.isEmpty()) {
+            ownRack.add(bag.remove(bag.size() - 1));
+        }
+
+        if (reply != null) {
+            checks.update(copy, reply.placeOn(copy));
+        }
+        Move followUp = bestByEquity(generator.generate(copy, ownRack, checks, budget), ownRack);
+        if (budget.isExhausted()) {
+            return Double.NaN;
+        }
+        return outcome + (followUp == null ? 0 : followUp.getScore());
+    }
+
+    private Move bestByEquity(List<Move> moves, List<Character> rack) {
+        Move best = null;
+        double bestEquity = Double.NEGATIVE_INFINITY;
+        for (Move move : moves) {
+            double equity = leaves.equity(move, rack);
+            if (equity > bestEquity) {
+                best = move;
+                bestEquity = equity;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Running mean and variance of one candidate's outcomes.
+     */
+    private static class Stats {
+        private final Move move;
+        private int samples;
+        private double sum;
+        private double sumOfSquares;
+
+        Stats(Move move) {
+            this.move = move;
+        }
+
+        void add(double outcome) {
+            samples++;
+            sum += outcome;
+            sumOfSquares += outcome * outcome;
+        }
+
+        double mean() {
+            return sum / samples;
+        }
+
+        double standardError() {
+            double variance = Math.max(0, (sumOfSquares - sum * sum / samples) / (samples - 1));
+            return Math.sqrt(variance / samples);
+        }
+    }
+}
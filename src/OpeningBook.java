@@ -0,0 +1,302 @@
+package src;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The OpeningBook class caches the AI's best opening moves. On an empty board the moves a rack can make depend only
+ * on its tiles, not their order, so the moves are keyed by the canonical rack: its tiles in upper case, sorted,
+ * with blanks written as {@code '?'}.
+ *
+ * <p>The book is filled lazily: the first lookup of a rack generates its moves and keeps the best by equity
+ * under the book's {@link LeaveTable}; every later lookup of the same rack is a hash lookup. Lookups are safe
+ * from several threads. A book can be written to a small binary file and loaded back, so batch runs can start
+ * warm. The file records the lexicon's word count, and a file built for a different lexicon is rejected.
+ * It does not record the leave table, so rebuild it when the leave table changes:
+ * <pre>
+ *     java src.OpeningBook resources/wordlist.txt resources/openings.bin 20000 resources/leaves.bin
+ * </pre>
+ */
+public class OpeningBook {
+    /** Identifies an opening book file ("OPEN"). */
+    public static final int MAGIC = 0x4F50454E;
+    /** Version of the binary layout; bumped whenever the layout changes. */
+    public static final int VERSION = 1;
+    /** Size of the board the book's moves are for. */
+    public static final int BOARD_SIZE = 15;
+
+    private static final int RACK_SIZE = 7;
+    private static final int DEFAULT_MOVES_PER_RACK = 32;
+    private static final int DEFAULT_RACKS = 10000;
+
+    private final Lexicon lexicon;
+    private final LeaveTable leaves;
+    private final int movesPerRack;
+    private final CrossChecks emptyCrossChecks;
+    private final Map<String, List<Move>> openings = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty book.
+     *
+     * @param lexicon      the dictionary openings are drawn from.
+     * @param leaves       the table used to rank openings by equity.
+     * @param movesPerRack how many of the best openings to keep for each rack.
+     * @throws IllegalArgumentException if movesPerRack is less than 1.
+     */
+    public OpeningBook(Lexicon lexicon, LeaveTable leaves, int movesPerRack) {
+        if (movesPerRack < 1) {
+            throw new IllegalArgumentException("Moves per rack must be at least 1, got " + movesPerRack + ".");
+        }
+        this.lexicon = lexicon;
+        this.leaves = leaves;
+        this.movesPerRack = movesPerRack;
+        this.emptyCrossChecks = new CrossChecks(lexicon, new char[BOARD_SIZE][BOARD_SIZE]);
+    }
+
+    /**
+     * Returns the lexicon the book's openings are drawn from.
+     *
+     * @return the lexicon.
+     */
+    public Lexicon getLexicon() {
+        return lexicon;
+    }
+
+    /**
+     * Returns the table the book ranks openings with.
+     *
+     * @return the leave table.
+     */
+    public LeaveTable getLeaveTable() {
+        return leaves;
+    }
+
+    /**
+     * Returns how many openings are kept for each rack.
+     *
+     * @return the number of moves per rack.
+     */
+    public int getMovesPerRack() {
+        return movesPerRack;
+    }
+
+    /**
+     * Returns the number of racks in the book.
+     *
+     * @return the rack count.
+     */
+    public int size() {
+        return openings.size();
+    }
+
+    /**
+     * Checks whether a board is an empty board of the book's size, the only position the book covers.
+     *
+     * @param board the board; '\0' marks an empty square.
+     * @return true if no tile has been placed.
+     */
+    public static boolean isOpening(char[][] board) {
+        if (board.length != BOARD_SIZE) {
+            return false;
+        }
+        for (char[] row : board) {
+            for (char square : row) {
+                if (square != '\0') {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the canonical form of a rack: its tiles in upper case and sorted, with blanks as {@code '?'}.
+     *
+     * @param rack the tiles, in any order and case; blanks are ' ' or '?'.
+     * @return the key the rack's openings are stored under.
+     */
+    public static String rackKey(List<Character> rack) {
+        char[] tiles = new char[rack.size()];
+        for (int i = 0; i < tiles.length; i++) {
+            char tile = rack.get(i);
+            tiles[i] = tile == ' ' || tile == '?' ? '?' : Character.toUpperCase(tile);
+        }
+        Arrays.sort(tiles);
+        return new String(tiles);
+    }
+
+    /**
+     * Returns the best openings for a rack, best first by equity, generating them on the first lookup.
+     *
+     * @param rack the tiles available to the player.
+     * @return a new list of up to {@link #getMovesPerRack} moves; empty if the rack cannot open.
+     */
+    public List<Move> openings(List<Character> rack) {
+        return openings(rack, SearchBudget.UNLIMITED);
+    }
+
+    /**
+     * Returns the best openings for a rack within a search budget. Openings are only added to the book
+     * when their search finished, so a search cut short never leaves a partial entry behind.
+     *
+     * @param rack   the tiles available to the player.
+     * @param budget the time allowed and the cancellation signal for a rack that is not in the book yet.
+     * @return a new list of up to {@link #getMovesPerRack} moves, best first; empty if the rack cannot open.
+     */
+    public List<Move> openings(List<Character> rack, SearchBudget budget) {
+        String key = rackKey(rack);
+        List<Move> moves = openings.get(key);
+        if (moves == null) {
+            List<Move> generated = new MoveGenerator(lexicon)
+                    .generate(new char[BOARD_SIZE][BOARD_SIZE], rack, emptyCrossChecks, budget);
+            List<Character> tiles = new ArrayList<>(rack);
+            moves = ParallelMoveSearch.best(generated, move -> leaves.equity(move, tiles), movesPerRack);
+            if (budget.isExhausted()) {
+                return moves;
+            }
+            moves = Collections.unmodifiableList(moves);
+            List<Move> existing = openings.putIfAbsent(key, moves);
+            if (existing != null) {
+                moves = existing;
+            }
+        }
+        return new ArrayList<>(moves);
+    }
+
+    /**
+     * Reads a book file written by {@link #writeTo}.
+     *
+     * @param filePath the path to the book file.
+     * @param lexicon  the dictionary the book was built with.
+     * @param leaves   the table used to rank racks that are not in the file.
+     * @return the loaded book.
+     * @throws IOException if the file cannot be read, is not an opening book or was built with another lexicon.
+     */
+    public static OpeningBook load(String filePath, Lexicon lexicon, LeaveTable leaves) throws IOException {
+        try (InputStream file = Files.newInputStream(Paths.get(filePath));
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not an opening book file (or an incompatible version): " + filePath);
+            }
+            if (in.readInt() != lexicon.wordCount()) {
+                throw new IOException("Opening book was built with a different lexicon: " + filePath);
+            }
+            OpeningBook book = new OpeningBook(lexicon, leaves, in.readInt());
+            int racks = in.readInt();
+            for (int r = 0; r < racks; r++) {
+                String key = in.readUTF();
+                int count = in.readUnsignedByte();
+                List<Move> moves = new ArrayList<>(count);
+                for (int m = 0; m < count; m++) {
+                    int row = in.readUnsignedByte();
+                    int col = in.readUnsignedByte();
+                    boolean horizontal = in.readBoolean();
+                    String word = in.readUTF();
+                    int score = in.readShort();
+                    moves.add(new Move(row, col, horizontal, word, score, in.readUTF()));
+                }
+                book.openings.put(key, Collections.unmodifiableList(moves));
+            }
+            return book;
+        }
+    }
+
+    /**
+     * Loads a book file if it exists, falling back to an empty book otherwise.
+     *
+     * @param filePath     the path to the book file.
+     * @param lexicon      the dictionary openings are drawn from.
+     * @param leaves       the table used to rank openings.
+     * @param movesPerRack how many openings an empty book keeps for each rack.
+     * @return the loaded book, or an empty one if the file is missing, unreadable or for another lexicon.
+     */
+    public static OpeningBook loadOrEmpty(String filePath, Lexicon lexicon, LeaveTable leaves, int movesPerRack) {
+        if (!Files.exists(Paths.get(filePath))) {
+            return new OpeningBook(lexicon, leaves, movesPerRack);
+        }
+        try {
+            return load(filePath, lexicon, leaves);
+        } catch (IOException e) {
+            System.err.println("Error loading opening book " + filePath + ": " + e.getMessage());
+            return new OpeningBook(lexicon, leaves, movesPerRack);
+        }
+    }
+
+    /**
+     * Writes the book in the format {@link #load} reads.
+     *
+     * @param output the file to create or overwrite.
+     * @throws IOException if the file cannot be written.
+     */
+    public void writeTo(Path output) throws IOException {
+        try (OutputStream file = Files.newOutputStream(output);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(lexicon.wordCount());
+            out.writeInt(movesPerRack);
+            Map<String, List<Move>> snapshot = Map.copyOf(openings);
+            out.writeInt(snapshot.size());
+            for (Map.Entry<String, List<Move>> entry : snapshot.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeByte(entry.getValue().size());
+                for (Move move : entry.getValue()) {
+                    out.writeByte(move.getRow());
+                    out.writeByte(move.getCol());
+                    out.writeBoolean(move.isHorizontal());
+                    out.writeUTF(move.getWord());
+                    out.writeShort(move.getScore());
+                    out.writeUTF(move.getPlacedTiles());
+                }
+            }
+        }
+    }
+
+    /**
+     * Warms a book with racks drawn from full bags and writes it to a file.
+     *
+     * @param args the word list path, the output path, and optionally the number of racks and a leave table path.
+     * @throws IOException if a file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 4) {
+            System.err.println("Usage: java src.OpeningBook <wordlist> <output.bin> [racks] [leaves.bin]");
+            return;
+        }
+        int racks = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RACKS;
+        LeaveTable leaves = args.length > 3 ? LeaveTable.load(args[3]) : LeaveTable.heuristic();
+        OpeningBook book = new OpeningBook(Lexicon.load(args[0]), leaves, DEFAULT_MOVES_PER_RACK);
+
+        List<Character> bag = new ArrayList<>();
+        for (Map.Entry<Character, Integer> entry : new TileBag().tileCounts.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                bag.add(entry.getKey());
+            }
+        }
+        Random random = new Random(1L);
+        for (int i = 1; i <= racks; i++) {
+            Collections.shuffle(bag, random);
+            book.openings(bag.subList(0, RACK_SIZE));
+            if (i % 1000 == 0) {
+                System.out.println("Looked up " + i + " of " + racks + " racks.");
+            }
+        }
+        book.writeTo(Paths.get(args[1]));
+        System.out.println("Wrote openings for " + book.size() + " racks to " + args[1] + ".");
+    }
+}
@@ -0,0 +1,244 @@
+package src;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * The ParallelMoveSearch class generates moves on several threads at once and keeps only the best ones.
+ *
+ * <p>Every row and column of the board is an independent search: a move's tiles all lie on one line,
+ * and the cross-checks already account for the perpendicular words. The search is split into one task
+ * per line on a {@link ForkJoinPool}; each task runs its own {@link MoveGenerator} and keeps its K best
+ * moves (by score, or by any other rating such as equity), and the partial results are merged pairwise
+ * as the tasks join. Idle workers steal lines from busy
+ * ones, so crowded lines in the middle of the board do not hold up the rest.
+ *
+ * <p>A search instance owns its pool; close it when it is no longer needed.
+ */
+public class ParallelMoveSearch implements Closeable {
+    /** Orders moves from the highest score down. */
+    public static final Comparator<Move> BY_SCORE_DESCENDING = Comparator.comparingInt(Move::getScore).reversed();
+
+    private final Lexicon lexicon;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a search that uses the given number of worker threads.
+     *
+     * @param lexicon     the dictionary moves must be drawn from.
+     * @param parallelism the number of worker threads, at least 1.
+     * @throws IllegalArgumentException if parallelism is less than 1.
+     */
+    public ParallelMoveSearch(Lexicon lexicon, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism + ".");
+        }
+        this.lexicon = lexicon;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return the parallelism of the pool.
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Returns the lexicon moves are drawn from.
+     *
+     * @return the lexicon.
+     */
+    public Lexicon getLexicon() {
+        return lexicon;
+    }
+
+    /**
+     * Finds the highest-scoring legal moves for a rack.
+     *
+     * @param board       the current board; '\0' marks an empty square. It must not change during the search.
+     * @param rack        the tiles available to the player.
+     * @param crossChecks the cross-checks of the board, computed with this search's lexicon.
+     * @param limit       the number of moves to keep.
+     * @return up to {@code limit} moves, best first.
+     */
+    public List<Move> topMoves(char[][] board, List<Character> rack, CrossChecks crossChecks, int limit) {
+        return topMoves(board, rack, crossChecks, limit, SearchBudget.UNLIMITED);
+    }
+
+    /**
+     * Finds the highest-scoring moves for a rack within a time budget. Every worker checks the budget
+     * as it searches; once it runs out, the best moves found on all lines so far are returned.
+     *
+     * @param board       the current board; '\0' marks an empty square. It must not change during the search.
+     * @param rack        the tiles available to the player.
+     * @param crossChecks the cross-checks of the board, computed with this search's lexicon.
+     * @param limit       the number of moves to keep.
+     * @param budget      the time allowed and the cancellation signal.
+     * @return up to {@code limit} moves, best first.
+     */
+    public List<Move> topMoves(char[][] board, List<Character> rack, CrossChecks crossChecks, int limit, SearchBudget budget) {
+        return topMoves(board, rack, crossChecks, limit, budget, Move::getScore);
+    }
+
+    /**
+     * Finds the highest-rated moves for a rack within a time budget. The rating is computed once per move,
+     * on the worker that generated it.
+     *
+     * @param board       the current board; '\0' marks an empty square. It must not change during the search.
+     * @param rack        the tiles available to the player.
+     * @param crossChecks the cross-checks of the board, computed with this search's lexicon.
+     * @param limit       the number of moves to keep.
+     * @param budget      the time allowed and the cancellation signal.
+     * @param rating      how good a move is; higher is better. It is called from several threads at once.
+     * @return up to {@code limit} moves, best first.
+     */
+    public List<Move> topMoves(char[][] board, List<Character> rack, CrossChecks crossChecks, int limit, SearchBudget budget,
+                               ToDoubleFunction<Move> rating) {
+        return topMoves(board, rack, crossChecks, limit, budget, rating, null);
+    }
+
+    /**
+     * Finds the highest-rated moves for a rack within a time budget, taking the moves of unchanged lines
+     * from a cache. Each line task reads and writes only its own line's entry. Cached lines are returned
+     * even after the budget runs out, since reading them costs no search.
+     *
+     * @param board       the current board; '\0' marks an empty square. It must not change during the search.
+     * @param rack        the tiles available to the player.
+     * @param crossChecks the cross-checks of the board, computed with this search's lexicon.
+     * @param limit       the number of moves to keep.
+     * @param budget      the time allowed and the cancellation signal.
+     * @param rating      how good a move is; higher is better. It is called from several threads at once.
+     * @param cache       the moves of earlier searches with this search's lexicon, or null to search every line.
+     * @return up to {@code limit} moves, best first.
+     */
+    public List<Move> topMoves(char[][] board, List<Character> rack, CrossChecks crossChecks, int limit, SearchBudget budget,
+                               ToDoubleFunction<Move> rating, LineMoveCache cache) {
+        return sorted(pool.invoke(new LineTask(board, rack, crossChecks, limit, budget, rating, cache, 0, 2 * board.length)));
+    }
+
+    /**
+     * Keeps the highest-rated moves of a list, rating each move once.
+     *
+     * @param moves  the moves to choose from.
+     * @param rating how good a move is; higher is better.
+     * @param limit  the number of moves to keep.
+     * @return up to {@code limit} moves, best first.
+     */
+    public static List<Move> best(List<Move> moves, ToDoubleFunction<Move> rating, int limit) {
+        return sorted(merge(rate(moves, rating), List.of(), limit));
+    }
+
+    /**
+     * Shuts the worker threads down. A search already running is allowed to finish.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Keeps the {@code limit} highest-rated moves of two lists.
+     */
+    private static List<Rated> merge(List<Rated> first, List<Rated> second, int limit) {
+        PriorityQueue<Rated> kept = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(rated -> rated.value));
+        for (List<Rated> moves : List.of(first, second)) {
+            for (Rated move : moves) {
+                kept.add(move);
+                if (kept.size() > limit) {
+                    kept.poll(); // Drop the lowest rating
+                }
+            }
+        }
+        return new ArrayList<>(kept);
+    }
+
+    private static List<Rated> rate(List<Move> moves, ToDoubleFunction<Move> rating) {
+        List<Rated> rated = new ArrayList<>(moves.size());
+        for (Move move : moves) {
+            rated.add(new Rated(move, rating.applyAsDouble(move)));
+        }
+        return rated;
+    }
+
+    private static List<Move> sorted(List<Rated> rated) {
+        List<Rated> order = new ArrayList<>(rated);
+        order.sort(Comparator.comparingDouble((Rated move) -> move.value).reversed());
+        List<Move> moves = new ArrayList<>(order.size());
+        for (Rated move : order) {
+            moves.add(move.move);
+        }
+        return moves;
+    }
+
+    /**
+     * A move paired with its rating, so the rating is only computed once.
+     */
+    private static class Rated {
+        private final Move move;
+        private final double value;
+
+        Rated(Move move, double value) {
+            this.move = move;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Searches a range of lines: indexes below the board size are rows, the rest are columns.
+     */
+    private class LineTask extends RecursiveTask<List<Rated>> {
+        private static final long serialVersionUID = 1L;
+
+        private final char[][] board;
+        private final List<Character> rack;
+        private final CrossChecks crossChecks;
+        private final int limit;
+        private final SearchBudget budget;
+        private final ToDoubleFunction<Move> rating;
+        private final LineMoveCache cache;
+        private final int from;
+        private final int to;
+
+        LineTask(char[][] board, List<Character> rack, CrossChecks crossChecks, int limit, SearchBudget budget,
+                 ToDoubleFunction<Move> rating, LineMoveCache cache, int from, int to) {
+            this.board = board;
+            this.rack = rack;
+            this.crossChecks = crossChecks;
+            this.limit = limit;
+            this.budget = budget;
+            this.rating = rating;
+            this.cache = cache;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Rated> compute() {
+            // Once the budget runs out, lines are still read from the cache; only fresh searches are skipped
+            if (cache == null && budget.isExhausted()) {
+                return List.of();
+            }
+            if (to - from == 1) {
+                int size = board.length;
+                boolean horizontal = from < size;
+                List<Move> moves = new MoveGenerator(lexicon)
+                        .generateLine(board, rack, crossChecks, horizontal, horizontal ? from : from - size, budget, cache);
+                return merge(rate(moves, rating), List.of(), limit);
+            }
+            int middle = (from + to) >>> 1;
+            LineTask right = new LineTask(board, rack, crossChecks, limit, budget, rating, cache, middle, to);
+            right.fork();
+            List<Rated> left = new LineTask(board, rack, crossChecks, limit, budget, rating, cache, from, middle).compute();
+            return merge(left, right.join(), limit);
+        }
+    }
+}
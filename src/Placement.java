@@ -0,0 +1,213 @@
+package src;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The Placement class records the tiles put on the board in one turn: the row, column and letter of each,
+ * kept in parallel primitive arrays.
+ *
+ * <p>It is the move model of the headless rules in {@link GameRules}, so validation and scoring do not depend
+ * on Swing components. The GUI builds one from the squares the player clicked, and the AI builds one from a
+ * generated {@link Move}.
+ */
+public class Placement {
+    private static final int INITIAL_CAPACITY = 7;
+
+    private int[] rows = new int[INITIAL_CAPACITY];
+    private int[] cols = new int[INITIAL_CAPACITY];
+    private char[] letters = new char[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Creates an empty placement.
+     */
+    public Placement() {
+        // Tiles are added one at a time
+    }
+
+    /**
+     * Creates the placement of a move's new tiles: the letters of its word that fall on empty squares.
+     *
+     * @param move  the move.
+     * @param board the board the move is played on, without the move's tiles.
+     * @return the tiles the move adds.
+     */
+    public static Placement of(Move move, char[][] board) {
+        Placement placement = new Placement();
+        String word = move.getWord();
+        for (int i = 0; i < word.length(); i++) {
+            int row = move.isHorizontal() ? move.getRow() : move.getRow() + i;
+            int col = move.isHorizontal() ? move.getCol() + i : move.getCol();
+            if (board[row][col] == '\0') {
+                placement.add(row, col, word.charAt(i));
+            }
+        }
+        return placement;
+    }
+
+    /**
+     * Creates the placement of tiles already written to a board, reading each letter from its square.
+     *
+     * @param board   the board, with the tiles on it.
+     * @param squares the (row, col) coordinates of the tiles; repeated and empty squares are skipped.
+     * @return the placement.
+     */
+    public static Placement of(char[][] board, List<Point> squares) {
+        Placement placement = new Placement();
+        for (Point square : squares) {
+            if (board[square.x][square.y] != '\0' && !placement.contains(square.x, square.y)) {
+                placement.add(square.x, square.y, board[square.x][square.y]);
+            }
+        }
+        return placement;
+    }
+
+    /**
+     * Adds a tile.
+     *
+     * @param row    the tile's row.
+     * @param col    the tile's column.
+     * @param letter the letter on the tile.
+     */
+    public void add(int row, int col, char letter) {
+        if (size == rows.length) {
+            rows = Arrays.copyOf(rows, size * 2);
+            cols = Arrays.copyOf(cols, size * 2);
+            letters = Arrays.copyOf(letters, size * 2);
+        }
+        rows[size] = row;
+        cols[size] = col;
+        letters[size] = letter;
+        size++;
+    }
+
+    /**
+     * Removes every tile.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the number of tiles.
+     *
+     * @return the tile count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether no tiles have been placed.
+     *
+     * @return true if the placement is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the row of a tile.
+     *
+     * @param index the tile's index, in the order the tiles were added.
+     * @return the row.
+     */
+    public int row(int index) {
+        return rows[index];
+    }
+
+    /**
+     * Returns the column of a tile.
+     *
+     * @param index the tile's index, in the order the tiles were added.
+     * @return the column.
+     */
+    public int col(int index) {
+        return cols[index];
+    }
+
+    /**
+     * Returns the letter of a tile.
+     *
+     * @param index the tile's index, in the order the tiles were added.
+     * @return the letter.
+     */
+    public char letter(int index) {
+        return letters[index];
+    }
+
+    /**
+     * Returns the rack tile a letter was played from: the letter itself, or {@code ' '} for a blank,
+     * which is placed as a lower-case letter.
+     *
+     * @param index the tile's index, in the order the tiles were added.
+     * @return the rack tile.
+     */
+    public char tile(int index) {
+        return Character.isLowerCase(letters[index]) ? ' ' : letters[index];
+    }
+
+    /**
+     * Checks whether a tile was placed on a square.
+     *
+     * @param row the square's row.
+     * @param col the square's column.
+     * @return true if one of the tiles is on that square.
+     */
+    public boolean contains(int row, int col) {
+        for (int i = 0; i < size; i++) {
+            if (rows[i] == row && cols[i] == col) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the tiles into their squares.
+     *
+     * @param board the board to place the tiles on.
+     */
+    public void placeOn(char[][] board) {
+        for (int i = 0; i < size; i++) {
+            board[rows[i]][cols[i]] = letters[i];
+        }
+    }
+
+    /**
+     * Empties the tiles' squares again.
+     *
+     * @param board the board to take the tiles off.
+     */
+    public void removeFrom(char[][] board) {
+        for (int i = 0; i < size; i++) {
+            board[rows[i]][cols[i]] = '\0';
+        }
+    }
+
+    /**
+     * Returns the (row, col) coordinates of the tiles, for code that works with points.
+     *
+     * @return a new list of the tiles' coordinates.
+     */
+    public List<Point> toPoints() {
+        List<Point> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            points.add(new Point(rows[i], cols[i]));
+        }
+        return points;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) text.append(", ");
+            text.append(letters[i]).append(" at (").append(rows[i]).append(", ").append(cols[i]).append(')');
+        }
+        return text.append(']').toString();
+    }
+}
@@ -0,0 +1,72 @@
+package src;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The SearchBudget class bounds how long an AI search may run.
+ *
+ * <p>A budget has an optional deadline and can be cancelled from any thread. Searches poll
+ * {@link #isExhausted()} between units of work (every few hundred steps for move generation) and, once it
+ * returns true, stop and report the best result found so far. Polling is a volatile read and, with a
+ * deadline, one {@link System#nanoTime()} call, so it is cheap enough to do often.
+ */
+public class SearchBudget {
+    /** A budget that never runs out and cannot be cancelled, for callers that want a complete search. */
+    public static final SearchBudget UNLIMITED = new SearchBudget(Long.MAX_VALUE) {
+        @Override
+        public void cancel() {
+            // Shared instance; cancelling it would stop unrelated searches
+        }
+    };
+
+    private final long deadlineNanos;
+    private volatile boolean cancelled;
+
+    private SearchBudget(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Creates a budget that runs out after the given time.
+     *
+     * @param millis the time allowed, in milliseconds, counted from now.
+     * @return the new budget.
+     */
+    public static SearchBudget ofMillis(long millis) {
+        return new SearchBudget(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /**
+     * Creates a budget with no deadline that only runs out when cancelled.
+     *
+     * @return the new budget.
+     */
+    public static SearchBudget untilCancelled() {
+        return new SearchBudget(Long.MAX_VALUE);
+    }
+
+    /**
+     * Asks every search using this budget to stop as soon as possible.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Checks whether the budget was cancelled, as opposed to running out of time.
+     *
+     * @return true if {@link #cancel()} has been called.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Checks whether the search should stop, either because it was cancelled or because the deadline has passed.
+     *
+     * @return true if no more work should be done.
+     */
+    public boolean isExhausted() {
+        return cancelled || (deadlineNanos != Long.MAX_VALUE && System.nanoTime() - deadlineNanos >= 0);
+    }
+}
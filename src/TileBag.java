@@ -12,6 +12,9 @@ import java.util.Random;
  * It manages the drawing of tiles, keeps track of tile counts, and refills players' tile sets.
  */
 public class TileBag {
+    /** Fewest tiles the bag must hold for a player to exchange tiles. */
+    public static final int MIN_TILES_TO_EXCHANGE = 7;
+
     public final Map<Character, Integer> tileCounts = new HashMap<>();
     public int totalTiles = 100; // Total number of tiles, excluding blank tiles.
 
@@ -106,4 +109,62 @@ public class TileBag {
         tileCounts.put(tile, tileCounts.get(tile) - 1);
         totalTiles--;
     }
+
+    /**
+     * Checks whether a player may exchange tiles, which the rules only allow while the bag holds a full rack.
+     *
+     * @return true if at least {@link #MIN_TILES_TO_EXCHANGE} tiles are left.
+     */
+    public boolean canExchange() {
+        return totalTiles >= MIN_TILES_TO_EXCHANGE;
+    }
+
+    /**
+     * Puts tiles back into the bag.
+     *
+     * @param tiles the tiles to return; blanks are ' ' or '?'.
+     * @throws IllegalArgumentException if a tile is not one of the bag's letters.
+     */
+    public void returnTiles(List<Character> tiles) {
+        checkTiles(tiles);
+        for (char tile : tiles) {
+            char bagTile = tile == '?' ? ' ' : tile;
+            tileCounts.put(bagTile, tileCounts.get(bagTile) + 1);
+            totalTiles++;
+        }
+    }
+
+    /**
+     * Exchanges tiles from a player's rack: draws as many new tiles as are given, then returns the given ones,
+     * so a player never draws back a tile they exchanged.
+     *
+     * @param tiles the tiles the player gives up; blanks are ' ' or '?'.
+     * @return the tiles drawn in their place.
+     * @throws IllegalArgumentException if no tiles are given or a tile is not one of the bag's letters.
+     * @throws IllegalStateException    if fewer than {@link #MIN_TILES_TO_EXCHANGE} tiles are left in the bag.
+     */
+    public List<Character> exchangeTiles(List<Character> tiles) {
+        if (tiles.isEmpty()) {
+            throw new IllegalArgumentException("At least one tile must be exchanged.");
+        }
+        checkTiles(tiles);
+        if (!canExchange()) {
+            throw new IllegalStateException("Tiles can only be exchanged while the bag holds at least "
+                    + MIN_TILES_TO_EXCHANGE + " tiles; " + totalTiles + " are left.");
+        }
+        List<Character> drawn = drawTiles(tiles.size());
+        returnTiles(tiles);
+        return drawn;
+    }
+
+    /**
+     * Checks that every tile is one of the bag's letters, so a return is rejected before any count changes.
+     */
+    private void checkTiles(List<Character> tiles) {
+        for (char tile : tiles) {
+            if (!tileCounts.containsKey(tile == '?' ? ' ' : tile)) {
+                throw new IllegalArgumentException("Not a tile from the bag: '" + tile + "'.");
+            }
+        }
+    }
 }
@@ -0,0 +1,145 @@
+package src;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The TurnContext class hands an AI turn the game it is played in: the board, the tile bag, every player's rack,
+ * whose turn it is and whether it is the game's first move. It holds the game's own objects, not copies;
+ * {@link AIPlayer.Turn} copies what its search reads and changes them only when the turn is committed.
+ *
+ * <p>Nothing here depends on the GUI, so an AI turn can be played in any number of games in one JVM, with or
+ * without a display. The GUI's controller builds a context from its game; a batch run or a test builds its own.
+ */
+public class TurnContext {
+    private final char[][] board;
+    private final CrossChecks crossChecks;
+    private final TileBag tileBag;
+    private final Map<String, List<Character>> racks;
+    private final String playerName;
+    private final UnseenTileTracker unseenTiles;
+    private final boolean firstTurn;
+
+    /**
+     * Creates the context of a turn.
+     *
+     * @param board       the game's board; '\0' marks an empty square.
+     * @param crossChecks the cross-checks of the board, kept up to date as moves are committed,
+     *                    or null to compute them for each turn.
+     * @param tileBag     the game's tile bag.
+     * @param racks       every player's tiles, by player name.
+     * @param playerName  the player whose turn it is; their rack must be in {@code racks}.
+     * @param unseenTiles the game's tracker of unseen tiles, kept up to date as tiles move,
+     *                    or null to count them from the bag and the racks for each turn.
+     * @param firstTurn   true if no move has been played yet, so the move must cover the centre square.
+     * @throws IllegalArgumentException if the player has no rack.
+     */
+    public TurnContext(char[][] board, CrossChecks crossChecks, TileBag tileBag, Map<String, List<Character>> racks,
+                       String playerName, UnseenTileTracker unseenTiles, boolean firstTurn) {
+        if (!racks.containsKey(playerName)) {
+            throw new IllegalArgumentException("No rack for player " + playerName + ".");
+        }
+        this.board = board;
+        this.crossChecks = crossChecks;
+        this.tileBag = tileBag;
+        this.racks = racks;
+        this.playerName = playerName;
+        this.unseenTiles = unseenTiles;
+        this.firstTurn = firstTurn;
+    }
+
+    /**
+     * Creates the context of a turn that keeps no cross-checks or unseen-tile tracker between turns.
+     *
+     * @param board      the game's board; '\0' marks an empty square.
+     * @param tileBag    the game's tile bag.
+     * @param racks      every player's tiles, by player name.
+     * @param playerName the player whose turn it is; their rack must be in {@code racks}.
+     * @param firstTurn  true if no move has been played yet.
+     */
+    public TurnContext(char[][] board, TileBag tileBag, Map<String, List<Character>> racks, String playerName,
+                       boolean firstTurn) {
+        this(board, null, tileBag, racks, playerName, null, firstTurn);
+    }
+
+    public char[][] getBoard() {
+        return board;
+    }
+
+    /**
+     * Retrieves the board's cross-checks for a lexicon.
+     *
+     * @param lexicon the dictionary the turn is played with.
+     * @return the game's table if it was given and matches the lexicon, otherwise a newly computed one.
+     */
+    public CrossChecks crossChecks(Lexicon lexicon) {
+        return crossChecks != null && crossChecks.lexicon() == lexicon ? crossChecks : new CrossChecks(lexicon, board);
+    }
+
+    public TileBag getTileBag() {
+        return tileBag;
+    }
+
+    public Map<String, List<Character>> getRacks() {
+        return racks;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    /**
+     * Retrieves the tiles of the player whose turn it is.
+     *
+     * @return the player's rack, the game's own list.
+     */
+    public List<Character> getRack() {
+        return racks.get(playerName);
+    }
+
+    /**
+     * Retrieves the game's tracker of unseen tiles.
+     *
+     * @return the tracker, or null if the game does not keep one.
+     */
+    public UnseenTileTracker getUnseenTileTracker() {
+        return unseenTiles;
+    }
+
+    /**
+     * Lists the tiles the player cannot see: those left in the bag and those on the other players' racks.
+     *
+     * @return a new list of the unseen tiles.
+     */
+    public List<Character> unseenTiles() {
+        UnseenTileTracker tracker = unseenTiles != null ? unseenTiles : new UnseenTileTracker(tileBag, racks);
+        return tracker.unseenTiles(getRack());
+    }
+
+    /**
+     * Returns the only opponent's tiles when the bag is empty, which is when the player can tell exactly what they are.
+     *
+     * @return a copy of the opponent's tiles, or null if the bag still has tiles, there is more than one opponent
+     *         or the opponent has no tiles.
+     */
+    public List<Character> endgameOpponentTiles() {
+        if (tileBag.totalTiles > 0) {
+            return null;
+        }
+        List<Character> opponentTiles = null;
+        for (Map.Entry<String, List<Character>> rack : racks.entrySet()) {
+            if (!rack.getKey().equals(playerName)) {
+                if (opponentTiles != null) {
+                    return null;
+                }
+                opponentTiles = rack.getValue();
+            }
+        }
+        return opponentTiles == null || opponentTiles.isEmpty() ? null : new ArrayList<>(opponentTiles);
+    }
+
+    public boolean isFirstTurn() {
+        return firstTurn;
+    }
+}
@@ -0,0 +1,163 @@
+package src;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The TurnResult class describes what an AI turn did to the game once committed: the move it placed, with the
+ * words it formed, their points and the tiles drawn after it; the tiles it exchanged; or nothing, if it passed.
+ *
+ * <p>The engine has already updated the board, the rack and the bag; scores, the word history and the display
+ * are left to whoever runs the game, which reads them from here.
+ */
+public class TurnResult {
+    private final Move move;
+    private final Placement placement;
+    private final Map<String, Integer> wordScores;
+    private final int bonus;
+    private final List<Character> drawnTiles;
+    private final List<Character> exchangedTiles;
+
+    private TurnResult(Move move, Placement placement, Map<String, Integer> wordScores, int bonus,
+                       List<Character> drawnTiles, List<Character> exchangedTiles) {
+        this.move = move;
+        this.placement = placement;
+        this.wordScores = Collections.unmodifiableMap(new LinkedHashMap<>(wordScores));
+        this.bonus = bonus;
+        this.drawnTiles = Collections.unmodifiableList(new ArrayList<>(drawnTiles));
+        this.exchangedTiles = Collections.unmodifiableList(new ArrayList<>(exchangedTiles));
+    }
+
+    /**
+     * Creates the result of a turn that changed nothing: a pass, a cancelled search or a move the rules rejected.
+     *
+     * @return the result.
+     */
+    public static TurnResult pass() {
+        return new TurnResult(null, null, Map.of(), 0, List.of(), List.of());
+    }
+
+    /**
+     * Creates the result of a placed move.
+     *
+     * @param move       the move.
+     * @param placement  the tiles it put on the board.
+     * @param wordScores the words it formed and their points.
+     * @param bonus      the points earned beyond the words, such as the bingo bonus.
+     * @param drawnTiles the tiles drawn to refill the rack.
+     * @return the result.
+     */
+    public static TurnResult played(Move move, Placement placement, Map<String, Integer> wordScores, int bonus,
+                                    List<Character> drawnTiles) {
+        return new TurnResult(move, placement, wordScores, bonus, drawnTiles, List.of());
+    }
+
+    /**
+     * Creates the result of an exchange.
+     *
+     * @param exchangedTiles the tiles returned to the bag.
+     * @param drawnTiles     the tiles drawn in their place.
+     * @return the result.
+     */
+    public static TurnResult exchanged(List<Character> exchangedTiles, List<Character> drawnTiles) {
+        return new TurnResult(null, null, Map.of(), 0, drawnTiles, exchangedTiles);
+    }
+
+    /**
+     * Checks whether a move was placed.
+     *
+     * @return true if the turn placed tiles on the board.
+     */
+    public boolean isPlay() {
+        return move != null;
+    }
+
+    /**
+     * Checks whether tiles were exchanged.
+     *
+     * @return true if the turn exchanged tiles.
+     */
+    public boolean isExchange() {
+        return !exchangedTiles.isEmpty();
+    }
+
+    /**
+     * Retrieves the placed move.
+     *
+     * @return the move, or null if none was placed.
+     */
+    public Move getMove() {
+        return move;
+    }
+
+    /**
+     * Retrieves the tiles the move put on the board.
+     *
+     * @return the placement, or null if no move was placed.
+     */
+    public Placement getPlacement() {
+        return placement;
+    }
+
+    /**
+     * Retrieves the words the move formed and their points, as scored by {@link GameRules}.
+     *
+     * @return the word scores, in the order the words were found; empty if no move was placed.
+     */
+    public Map<String, Integer> getWordScores() {
+        return wordScores;
+    }
+
+    /**
+     * Retrieves the words the move formed.
+     *
+     * @return the words; empty if no move was placed.
+     */
+    public Set<String> getFormedWords() {
+        return wordScores.keySet();
+    }
+
+    /**
+     * Retrieves the points earned beyond the words, such as the bingo bonus.
+     *
+     * @return the bonus.
+     */
+    public int getBonus() {
+        return bonus;
+    }
+
+    /**
+     * Retrieves the points the turn earned.
+     *
+     * @return the sum of the word scores and the bonus.
+     */
+    public int getScore() {
+        int score = bonus;
+        for (int points : wordScores.values()) {
+            score += points;
+        }
+        return score;
+    }
+
+    /**
+     * Retrieves the tiles drawn from the bag after the move or in exchange.
+     *
+     * @return the drawn tiles.
+     */
+    public List<Character> getDrawnTiles() {
+        return drawnTiles;
+    }
+
+    /**
+     * Retrieves the tiles returned to the bag.
+     *
+     * @return the exchanged tiles; empty unless the turn was an exchange.
+     */
+    public List<Character> getExchangedTiles() {
+        return exchangedTiles;
+    }
+}
@@ -0,0 +1,222 @@
+package src;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The UnseenTileTracker class counts the tiles each player cannot see: those left in the bag and those on
+ * the other players' racks.
+ *
+ * <p>Every tile that is not on the board is either in the bag or on a rack, so the tiles a player cannot see
+ * are all the tiles off the board less their own rack. The tracker keeps one count per tile for the tiles off
+ * the board and one per player for their rack. Drawing only moves a tile onto a rack and playing only takes it
+ * off one, so each update changes one or two counts, and a query reads counts instead of walking the bag and
+ * the racks. Blanks are counted as one kind of tile, whether written ' ' or '?'.
+ *
+ * <p>A tracker is built from the bag and the racks once and then kept up to date as tiles move;
+ * it is not safe for concurrent updates.
+ */
+public class UnseenTileTracker {
+    /** Number of kinds of tile: the 26 letters and the blank. */
+    public static final int TILE_KINDS = 27;
+    private static final int BLANK = 26;
+
+    private final int[] offBoard = new int[TILE_KINDS];
+    private int offBoardTotal;
+    private final Map<String, int[]> racks = new HashMap<>();
+    private final Map<String, Integer> rackSizes = new HashMap<>();
+    private int rackTotal;
+
+    /**
+     * Counts the tiles in a bag and on the players' racks.
+     *
+     * @param bag   the tile bag.
+     * @param racks each player's tiles, by player name.
+     */
+    public UnseenTileTracker(TileBag bag, Map<String, List<Character>> racks) {
+        for (Map.Entry<Character, Integer> entry : bag.tileCounts.entrySet()) {
+            int kind = kind(entry.getKey());
+            if (kind >= 0) {
+                offBoard[kind] += entry.getValue();
+                offBoardTotal += entry.getValue();
+            }
+        }
+        for (Map.Entry<String, List<Character>> rack : racks.entrySet()) {
+            for (char tile : rack.getValue()) {
+                int kind = kind(tile);
+                if (kind >= 0) {
+                    offBoard[kind]++;
+                    offBoardTotal++;
+                }
+            }
+            drew(rack.getKey(), rack.getValue());
+        }
+    }
+
+    /**
+     * Records tiles drawn from the bag onto a player's rack.
+     *
+     * @param player the player's name.
+     * @param tiles  the tiles drawn.
+     */
+    public void drew(String player, List<Character> tiles) {
+        int[] rack = racks.computeIfAbsent(player, name -> new int[TILE_KINDS]);
+        int added = 0;
+        for (char tile : tiles) {
+            int kind = kind(tile);
+            if (kind >= 0) {
+                rack[kind]++;
+                added++;
+            }
+        }
+        rackSizes.merge(player, added, Integer::sum);
+        rackTotal += added;
+    }
+
+    /**
+     * Records tiles a player put back into the bag, as when exchanging.
+     *
+     * @param player the player's name.
+     * @param tiles  the tiles returned.
+     */
+    public void returned(String player, List<Character> tiles) {
+        for (char tile : tiles) {
+            takeFromRack(player, kind(tile));
+        }
+    }
+
+    /**
+     * Records the tiles a player placed on the board. Letters played with a blank are counted as blanks.
+     *
+     * @param player    the player's name.
+     * @param placement the tiles placed.
+     */
+    public void played(String player, Placement placement) {
+        for (int i = 0; i < placement.size(); i++) {
+            int kind = kind(placement.tile(i));
+            if (kind >= 0 && offBoard[kind] > 0) {
+                offBoard[kind]--;
+                offBoardTotal--;
+            }
+            takeFromRack(player, kind);
+        }
+    }
+
+    /**
+     * Returns how many of a tile a player cannot see.
+     *
+     * @param player the player's name.
+     * @param tile   the tile, in any case; blanks are ' ' or '?'.
+     * @return the number in the bag and on the other players' racks.
+     */
+    public int unseenCount(String player, char tile) {
+        int kind = kind(tile);
+        if (kind < 0) {
+            return 0;
+        }
+        int[] rack = racks.get(player);
+        return offBoard[kind] - (rack == null ? 0 : rack[kind]);
+    }
+
+    /**
+     * Returns how many tiles a player cannot see.
+     *
+     * @param player the player's name.
+     * @return the number of tiles in the bag and on the other players' racks.
+     */
+    public int unseenTotal(String player) {
+        return offBoardTotal - rackSizes.getOrDefault(player, 0);
+    }
+
+    /**
+     * Returns how many tiles are left in the bag.
+     *
+     * @return the bag's tile count.
+     */
+    public int bagTotal() {
+        return offBoardTotal - rackTotal;
+    }
+
+    /**
+     * Lists the tiles a player cannot see, for searches that deal them out as racks.
+     *
+     * @param rack the player's tiles.
+     * @return a new list of the tiles off the board less the rack, with blanks as ' '.
+     */
+    public List<Character> unseenTiles(List<Character> rack) {
+        int[] counts = offBoard.clone();
+        int total = offBoardTotal;
+        for (char tile : rack) {
+            int kind = kind(tile);
+            if (kind >= 0 && counts[kind] > 0) {
+                counts[kind]--;
+                total--;
+            }
+        }
+        List<Character> unseen = new ArrayList<>(total);
+        for (int kind = 0; kind < TILE_KINDS; kind++) {
+            char tile = kind == BLANK ? ' ' : (char) ('A' + kind);
+            for (int i = 0; i < counts[kind]; i++) {
+                unseen.add(tile);
+            }
+        }
+        return unseen;
+    }
+
+    /**
+     * Returns the chance that a player draws at least one of the given tiles, taking every unseen tile to be
+     * equally likely to be in the bag. For example, {@code drawProbability(player, "S?", 3)} is the chance of
+     * an S or a blank among three new tiles. The product has one factor per tile drawn, so it takes at most
+     * a rack's worth of steps.
+     *
+     * @param player the player's name.
+     * @param tiles  the tiles hoped for, in any case; blanks are ' ' or '?'; repeats count once.
+     * @param draws  how many tiles the player will draw; fewer are drawn if the bag runs out.
+     * @return the probability, from 0 to 1.
+     */
+    public double drawProbability(String player, CharSequence tiles, int draws) {
+        int unseen = unseenTotal(player);
+        int wanted = 0;
+        int counted = 0; // Bit per kind already added, so repeated tiles count once
+        for (int i = 0; i < tiles.length(); i++) {
+            int kind = kind(tiles.charAt(i));
+            if (kind >= 0 && (counted & (1 << kind)) == 0) {
+                counted |= 1 << kind;
+                wanted += unseenCount(player, tiles.charAt(i));
+            }
+        }
+        int drawn = Math.min(draws, Math.min(bagTotal(), unseen));
+        if (wanted == 0 || drawn <= 0) {
+            return 0;
+        }
+
+        // Chance that every tile drawn is one of the others
+        double missAll = 1;
+        for (int i = 0; i < drawn; i++) {
+            missAll *= (double) (unseen - wanted - i) / (unseen - i);
+        }
+        return 1 - Math.max(missAll, 0);
+    }
+
+    private void takeFromRack(String player, int kind) {
+        int[] rack = racks.get(player);
+        if (kind >= 0 && rack != null && rack[kind] > 0) {
+            rack[kind]--;
+            rackSizes.merge(player, -1, Integer::sum);
+            rackTotal--;
+        }
+    }
+
+    /**
+     * Returns a tile's index in the counts: 0 to 25 for 'A' to 'Z' and 26 for a blank, or -1 for anything else.
+     */
+    private static int kind(char tile) {
+        if (tile == ' ' || tile == '?') {
+            return BLANK;
+        }
+        char upper = Character.toUpperCase(tile);
+        return upper >= 'A' && upper <= 'Z' ? upper - 'A' : -1;
+    }
+}
@@ -1,15 +1,22 @@
 package src;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * The WordValidity class provides methods to validate words in a Scrabble game.
- * It checks if a word is valid by comparing it to a loaded word list from a file.
+ * It is a static facade over a default {@link Lexicon}, kept for code that does not pass a Lexicon around.
+ * The lexicon is built from a text word list or memory-mapped from a file precompiled by {@link LexiconCompiler}.
  */
 public class WordValidity {
-    private static List<String> wordList;
+    // Replaced as a whole by each load; readers see either the old or the new lexicon, never a mix
+    private static volatile Lexicon wordList;
 
     /**
      * Default constructor for the WordValidity class.
@@ -20,19 +27,91 @@ public class WordValidity {
     }
 
     /**
-     * Loads a list of valid words from a specified text file.
-     * The words are stored in the wordList, which is used for validation.
+     * Loads a list of valid words from a specified text file and makes it the default lexicon.
+     * Games that picked a named dictionary through {@link LexiconRegistry} are not affected.
      *
      * @param filePath the path to the text file containing valid Scrabble words.
      */
     public static void loadWordsFromFile(String filePath) {
         try {
-            wordList = Files.readAllLines(Paths.get(filePath));
+            wordList = Lexicon.fromFile(filePath);
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * Maps a lexicon file produced by {@link LexiconCompiler} and makes it the default lexicon.
+     *
+     * @param filePath the path to the compiled lexicon file.
+     */
+    public static void loadCompiledFile(String filePath) {
+        try {
+            wordList = Lexicon.mapCompiledFile(filePath);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Watches a word list file and makes every new version the default lexicon as soon as it is built.
+     * Dictionaries registered with {@link LexiconRegistry} under the same file are switched to it too.
+     * The rebuild runs in the background and the switch is a single reference swap, so turns in progress
+     * keep validating against the previous version until they finish.
+     *
+     * @param filePath the text word list or compiled ".lex" file to watch.
+     * @return the running watcher; close it to stop watching.
+     * @throws IOException if the file's directory cannot be watched.
+     */
+    public static LexiconWatcher watchWordList(String filePath) throws IOException {
+        return LexiconWatcher.watch(filePath, lexicon -> {
+            setLexicon(lexicon);
+            LexiconRegistry.replace(filePath, lexicon);
+        });
+    }
+
+    /**
+     * Reads a text word list, one word per line, trimming and lower-casing every entry.
+     *
+     * @param filePath the path to the text file containing valid Scrabble words.
+     * @return the normalized words, skipping blank lines.
+     * @throws IOException if the file cannot be read.
+     */
+    public static List<String> readWords(String filePath) throws IOException {
+        List<String> lines = Files.readAllLines(Paths.get(filePath));
+        List<String> words = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            String word = line.trim();
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase(Locale.ROOT));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Retrieves the default lexicon.
+     *
+     * @return the loaded lexicon.
+     * @throws IllegalStateException if the word list has not been loaded yet.
+     */
+    public static Lexicon getLexicon() {
+        Lexicon lexicon = wordList;
+        if (lexicon == null) {
+            throw new IllegalStateException("Word list is not loaded. Please load the word list first.");
+        }
+        return lexicon;
+    }
+
+    /**
+     * Replaces the default lexicon.
+     *
+     * @param lexicon the lexicon to use from now on.
+     */
+    public static void setLexicon(Lexicon lexicon) {
+        wordList = lexicon;
+    }
+
     /**
      * Checks if the given word is valid by checking if it exists in the word list.
      *
@@ -41,9 +120,85 @@ public class WordValidity {
      * @throws IllegalStateException if the word list has not been loaded yet.
      */
     public static boolean isWordValid(String word) {
-        if (wordList == null) {
-            throw new IllegalStateException("Word list is not loaded. Please load the word list first.");
-        }
-        return wordList.contains(word.toLowerCase());
+        return getLexicon().isWord(word);
+    }
+
+    /**
+     * Checks if at least one valid word starts with the given letters.
+     *
+     * @param prefix the letters to check.
+     * @return true if some word in the list begins with the prefix, false otherwise.
+     * @throws IllegalStateException if the word list has not been loaded yet.
+     */
+    public static boolean isPrefixValid(String prefix) {
+        return getLexicon().isPrefix(prefix);
+    }
+
+    /**
+     * Lists every word that can be formed from some or all of the given tiles.
+     * Blank tiles (' ') match any letter.
+     *
+     * @param rack the tiles available to the player.
+     * @return the words the rack can form, in lower case.
+     * @throws IllegalStateException if the word list has not been loaded yet.
+     */
+    public static List<String> findWordsFromRack(List<Character> rack) {
+        return getLexicon().wordsFromRack(rack);
+    }
+
+    /**
+     * Streams the words matching a pattern in which '?' stands for any letter, such as "C?T".
+     * Matches are found lazily by walking the word graph, so taking only the first few is cheap.
+     *
+     * @param pattern the pattern to match, in any case; its length is the length of every match.
+     * @return a stream of matching words in lower case, in alphabetical order.
+     * @throws IllegalStateException if the word list has not been loaded yet.
+     */
+    public static Stream<String> matchPattern(String pattern) {
+        return getLexicon().match(pattern);
+    }
+
+    /**
+     * Streams the words of a given length that have specific letters at specific offsets,
+     * which is the constraint a board line places on a word laid along it.
+     *
+     * @param length       the length of the words wanted.
+     * @param fixedLetters the required letter at each constrained offset (0-based).
+     * @return a stream of matching words in lower case, in alphabetical order.
+     * @throws IllegalArgumentException if an offset falls outside the word.
+     * @throws IllegalStateException if the word list has not been loaded yet.
+     */
+    public static Stream<String> findWordsWithLetters(int length, Map<Integer, Character> fixedLetters) {
+        return getLexicon().wordsWithLetters(length, fixedLetters);
+    }
+
+    /**
+     * Retrieves the word graph of the default lexicon, for callers that walk it directly.
+     *
+     * @return the loaded word graph.
+     * @throws IllegalStateException if the word list has not been loaded yet.
+     */
+    public static Dawg getDawg() {
+        return getLexicon().dawg();
+    }
+
+    /**
+     * Retrieves the GADDAG of the default lexicon, for move generation.
+     *
+     * @return the loaded GADDAG.
+     * @throws IllegalStateException if the word list has not been loaded yet.
+     */
+    public static Gaddag getGaddag() {
+        return getLexicon().gaddag();
+    }
+
+    /**
+     * Retrieves the anagram index of the default lexicon.
+     *
+     * @return the anagram index.
+     * @throws IllegalStateException if the word list has not been loaded yet.
+     */
+    public static AnagramIndex getAnagramIndex() {
+        return getLexicon().anagramIndex();
     }
 }
@@ -0,0 +1,156 @@
+package tests;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import src.AIPlayer;
+import src.CrossChecks;
+import src.LeaveTable;
+import src.Lexicon;
+import src.Move;
+import src.MoveGenerator;
+import src.TileBag;
+import src.TurnContext;
+import src.TurnResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class AIPlayerTests {
+
+    private Lexicon lexicon;
+    private char[][] board;
+    private List<Character> aiTiles;
+    private TileBag tileBag;
+    private int simulationCandidates;
+
+    @Before
+    public void setUp() {
+        lexicon = Lexicon.fromWords(Arrays.asList("cat", "cats", "scat", "at", "as", "ta", "act", "acts", "tact", "sat"));
+        board = new char[15][15];
+        board[7][6] = 'C';
+        board[7][7] = 'A';
+        board[7][8] = 'T';
+        aiTiles = new ArrayList<>(Arrays.asList('S', 'C', 'A', 'T'));
+        tileBag = new TileBag();
+        simulationCandidates = AIPlayer.getSimulationCandidates();
+        AIPlayer.setSimulationCandidates(0);
+    }
+
+    @After
+    public void tearDown() {
+        AIPlayer.setSimulationCandidates(simulationCandidates);
+    }
+
+    private TurnContext game(TileBag bag) {
+        Map<String, List<Character>> racks = new HashMap<>();
+        racks.put("AI Player 1", aiTiles);
+        return new TurnContext(board, bag, racks, "AI Player 1", false);
+    }
+
+    @Test
+    public void testSearchOnAnotherThreadLeavesGameStateUnchanged() throws Exception {
+        AIPlayer.Turn turn = AIPlayer.prepareTurn(lexicon, game(tileBag));
+        // Changes made after the turn is prepared must not reach the search
+        board[0][0] = 'Q';
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<Move>> search = executor.submit(turn::search);
+            List<Move> moves = search.get();
+
+            assertFalse("The AI should find a move.", moves.isEmpty());
+            assertEquals('Q', board[0][0]);
+            assertEquals('\0', board[7][9]);
+            assertEquals(Arrays.asList('S', 'C', 'A', 'T'), aiTiles);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testCancelledTurnCommitsNothing() {
+        AIPlayer.Turn turn = AIPlayer.prepareTurn(lexicon, game(tileBag));
+        List<Move> moves = turn.search();
+        assertFalse(moves.isEmpty());
+
+        // Cancelled after the search finished, as when the game is undone before the move is played
+        turn.getBudget().cancel();
+
+        assertTrue(turn.isCancelled());
+        assertFalse(turn.commit(moves).isPlay());
+        assertEquals(4, aiTiles.size());
+    }
+
+    @Test
+    public void testExchangesPoorRackInsteadOfPlaying() {
+        // CATS is playable, but it would keep Q, V, V, W, W and U
+        aiTiles = new ArrayList<>(Arrays.asList('Q', 'V', 'V', 'W', 'W', 'U', 'S'));
+
+        AIPlayer.Turn turn = AIPlayer.prepareTurn(lexicon, game(tileBag));
+        List<Move> moves = turn.search();
+        assertTrue("The AI should exchange rather than play.", moves.isEmpty());
+        TurnResult result = turn.commit(moves);
+        assertTrue(result.isExchange());
+
+        assertEquals("The AI should keep only its S.", Arrays.asList('Q', 'V', 'V', 'W', 'W', 'U'),
+                result.getExchangedTiles());
+        assertEquals(6, result.getDrawnTiles().size());
+        assertEquals(7, aiTiles.size());
+        assertTrue(aiTiles.contains('S'));
+        assertEquals("The bag should hold as many tiles as before.", 100, tileBag.totalTiles);
+        assertEquals("The exchanged Q should be back in the bag.", (Integer) 2,
+                (Integer) (tileBag.tileCounts.get('Q') + (result.getDrawnTiles().contains('Q') ? 1 : 0)));
+        assertEquals("The board should be unchanged.", '\0', board[7][9]);
+    }
+
+    @Test
+    public void testPonderedTurnFindsBestMoveAfterBoardChanges() {
+        AIPlayer.preparePonder(lexicon, game(tileBag)).run();
+        // The human plays between the ponder and the AI's turn
+        board[6][8] = 'A';
+
+        List<Move> moves = AIPlayer.prepareTurn(lexicon, game(tileBag)).search();
+
+        LeaveTable leaves = AIPlayer.getLeaveTable();
+        double best = Double.NEGATIVE_INFINITY;
+        for (Move move : new MoveGenerator(lexicon).generate(board, aiTiles, new CrossChecks(lexicon, board))) {
+            best = Math.max(best, leaves.equity(move, aiTiles));
+        }
+        assertFalse(moves.isEmpty());
+        assertEquals("The pondered search should rank the same best move as a fresh one.",
+                best, leaves.equity(moves.get(0), aiTiles), 1e-9);
+    }
+
+    @Test
+    public void testCancelledPonderLeavesGameStateUnchanged() {
+        Runnable ponder = AIPlayer.preparePonder(lexicon, game(tileBag));
+        AIPlayer.cancelSearch();
+        ponder.run();
+
+        assertEquals('\0', board[7][9]);
+        assertEquals(Arrays.asList('S', 'C', 'A', 'T'), aiTiles);
+        assertFalse(AIPlayer.prepareTurn(lexicon, game(tileBag)).search().isEmpty());
+    }
+
+    @Test
+    public void testCommitPlaysWithoutDisplay() {
+        TurnResult result = AIPlayer.makeMove(lexicon, game(tileBag));
+
+        assertTrue("The AI should place a move.", result.isPlay());
+        assertEquals("The move's tiles should be on the board.", result.getPlacement().letter(0),
+                board[result.getPlacement().row(0)][result.getPlacement().col(0)]);
+        assertTrue(result.getScore() > 0);
+        assertEquals("The rack should be refilled from the given bag.", 100 - result.getDrawnTiles().size(),
+                tileBag.totalTiles);
+        assertEquals(4 - result.getPlacement().size() + result.getDrawnTiles().size(), aiTiles.size());
+    }
+}
@@ -0,0 +1,50 @@
+package tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import src.AnagramIndex;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class AnagramIndexTests {
+
+    private AnagramIndex index;
+
+    @Before
+    public void setUp() {
+        index = AnagramIndex.build(Arrays.asList("act", "cat", "tac", "at", "cats", "tact", "zoo"));
+    }
+
+    @Test
+    public void testSignatureIsSortedLowerCase() {
+        assertEquals("The signature of 'CAT' should be 'act'.", "act", AnagramIndex.signature("CAT"));
+    }
+
+    @Test
+    public void testAnagramsOf() {
+        assertEquals("'tca' should have three anagrams.", new HashSet<>(Arrays.asList("act", "cat", "tac")),
+                new HashSet<>(index.anagramsOf("TCA")));
+        assertTrue("Letters with no anagram should return nothing.", index.anagramsOf("qq").isEmpty());
+    }
+
+    @Test
+    public void testWordsFromRackUsesEachTileOnce() {
+        Set<String> words = new HashSet<>(index.wordsFromRack(Arrays.asList('C', 'A', 'T', 'S', 'E')));
+        assertEquals("The rack should form every word using distinct tiles.",
+                new HashSet<>(Arrays.asList("act", "cat", "tac", "at", "cats")), words);
+    }
+
+    @Test
+    public void testBlanksAreWildcards() {
+        List<String> words = index.wordsFromRack(Arrays.asList('T', 'A', 'C', ' '));
+        assertTrue("A blank should stand in for the second T in 'tact'.", words.contains("tact"));
+        assertTrue("A blank should stand in for the S in 'cats'.", words.contains("cats"));
+        assertFalse("One blank cannot cover two Os.", words.contains("zoo"));
+        assertEquals("Each word should be listed once.", words.size(), new HashSet<>(words).size());
+    }
+}
@@ -0,0 +1,102 @@
+package tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import src.CrossChecks;
+import src.Lexicon;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CrossChecksTests {
+
+    private Lexicon lexicon;
+    private char[][] board;
+
+    @Before
+    public void setUp() {
+        lexicon = Lexicon.fromWords(Arrays.asList("cat", "cats", "scat", "at", "as", "ta", "act", "tact", "sat"));
+        board = new char[15][15];
+    }
+
+    @Test
+    public void testEmptyBoardAllowsEveryLetter() {
+        CrossChecks checks = new CrossChecks(lexicon, board);
+        assertEquals(CrossChecks.ALL_LETTERS, checks.allowed(true, 7, 7));
+        assertEquals(CrossChecks.ALL_LETTERS, checks.allowed(false, 0, 14));
+        assertEquals(CrossChecks.NO_CROSS_WORD, checks.crossScore(true, 7, 7));
+    }
+
+    @Test
+    public void testSquaresAroundAWordOnlyAllowValidHooks() {
+        // "AT" across row 7, columns 7-8
+        board[7][7] = 'A';
+        board[7][8] = 'T';
+        CrossChecks checks = new CrossChecks(lexicon, board);
+
+        // A down play through (7, 9) forms ATx across, and no three-letter word here starts with AT
+        assertEquals("No letter extends AT.", 0, checks.allowed(false, 7, 9));
+        // A down play through (7, 6) forms xAT across: C (CAT) and S (SAT)
+        assertTrue(checks.allows(false, 7, 6, 'c'));
+        assertTrue(checks.allows(false, 7, 6, 'S'));
+        assertFalse(checks.allows(false, 7, 6, 't'));
+        assertEquals("The cross score counts A and T.", 2, checks.crossScore(false, 7, 6));
+
+        // An across play through (8, 7) forms Ax down: S (AS) and T (AT)
+        assertTrue(checks.allows(true, 8, 7, 's'));
+        assertTrue(checks.allows(true, 8, 7, 't'));
+        assertFalse(checks.allows(true, 8, 7, 'c'));
+        assertEquals("Occupied squares allow nothing.", 0, checks.allowed(true, 7, 7));
+    }
+
+    @Test
+    public void testIncrementalUpdateMatchesFullRecompute() {
+        CrossChecks checks = new CrossChecks(lexicon, board);
+
+        place(checks, 7, 6, true, "CAT");
+        place(checks, 6, 8, false, "AT");
+        place(checks, 5, 5, true, "SCAT");
+
+        CrossChecks fresh = new CrossChecks(lexicon, board);
+        for (int row = 0; row < 15; row++) {
+            for (int col = 0; col < 15; col++) {
+                for (boolean horizontal : new boolean[]{true, false}) {
+                    assertEquals("Mask at (" + row + ", " + col + ")",
+                            fresh.allowed(horizontal, row, col), checks.allowed(horizontal, row, col));
+                    assertEquals("Cross score at (" + row + ", " + col + ")",
+                            fresh.crossScore(horizontal, row, col), checks.crossScore(horizontal, row, col));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCopyIsIndependentOfOriginal() {
+        CrossChecks checks = new CrossChecks(lexicon, board);
+        CrossChecks copy = new CrossChecks(checks);
+
+        place(copy, 7, 6, true, "CAT");
+
+        assertEquals("The original should not see the copy's update.", CrossChecks.ALL_LETTERS, checks.allowed(false, 7, 9));
+        assertEquals("Only S extends CAT.", 1 << ('s' - 'a'), copy.allowed(false, 7, 9));
+        copy.copyFrom(checks);
+        assertEquals(CrossChecks.ALL_LETTERS, copy.allowed(false, 7, 9));
+    }
+
+    private void place(CrossChecks checks, int row, int col, boolean horizontal, String word) {
+        List<Point> placed = new ArrayList<>();
+        for (int i = 0; i < word.length(); i++) {
+            int r = horizontal ? row : row + i;
+            int c = horizontal ? col + i : col;
+            if (board[r][c] == '\0') {
+                board[r][c] = word.charAt(i);
+                placed.add(new Point(r, c));
+            }
+        }
+        checks.update(board, placed);
+    }
+}
@@ -0,0 +1,71 @@
+package tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import src.Dawg;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class DawgTests {
+
+    private Dawg dawg;
+
+    @Before
+    public void setUp() {
+        dawg = Dawg.build(Arrays.asList("tap", "taps", "top", "tops", "cat", "cats", "car", "tap"));
+    }
+
+    @Test
+    public void testIsWord() {
+        assertTrue("'tops' should be a word.", dawg.isWord("tops"));
+        assertTrue("'car' should be a word.", dawg.isWord("car"));
+        assertFalse("'ca' is only a prefix.", dawg.isWord("ca"));
+        assertFalse("'dog' was never added.", dawg.isWord("dog"));
+        assertEquals("Duplicates should be counted once.", 7, dawg.wordCount());
+    }
+
+    @Test
+    public void testIsPrefix() {
+        assertTrue("'ta' should be a prefix.", dawg.isPrefix("ta"));
+        assertTrue("A word should be a prefix of itself.", dawg.isPrefix("cats"));
+        assertFalse("'tx' should not be a prefix.", dawg.isPrefix("tx"));
+    }
+
+    @Test
+    public void testSuffixesAreShared() {
+        // "ta", "to" and "ca" all lead to nodes accepting {p, ps} or {t, ts, r}; shared suffixes keep the graph small
+        assertEquals("Equivalent suffix nodes should be merged.", dawg.walk("ta"), dawg.walk("to"));
+        assertTrue("The graph should have fewer nodes than letters stored.", dawg.nodeCount() < 20);
+    }
+
+    @Test
+    public void testChildEdgesAreSorted() {
+        int node = dawg.walk("ca");
+        List<Character> letters = new ArrayList<>();
+        for (int e = dawg.edgeStart(node); e < dawg.edgeEnd(node); e++) {
+            letters.add(dawg.edgeLetter(e));
+        }
+        assertEquals("Children of 'ca' should be r and t in order.", Arrays.asList('r', 't'), letters);
+        assertEquals("Following 'x' should leave the graph.", -1, dawg.child(node, 'x'));
+    }
+
+    @Test
+    public void testMatchWildcardPattern() {
+        List<String> matches = dawg.match("t?p").collect(Collectors.toList());
+        assertEquals("'t?p' should match tap and top in order.", Arrays.asList("tap", "top"), matches);
+        assertEquals("Fixed letters should constrain later offsets.", Arrays.asList("cats", "taps", "tops"),
+                dawg.match("???s").collect(Collectors.toList()));
+        assertEquals("Nothing should match an impossible pattern.", 0, dawg.match("?x?").count());
+    }
+
+    @Test
+    public void testMatchIsLazy() {
+        assertEquals("Taking one match should stop the walk early.", Arrays.asList("car"),
+                dawg.match("???").limit(1).collect(Collectors.toList()));
+    }
+}
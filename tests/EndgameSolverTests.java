@@ -0,0 +1,98 @@
+package tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import src.EndgameSolver;
+import src.Lexicon;
+import src.Move;
+import src.ScoreCalculation;
+import src.SearchBudget;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EndgameSolverTests {
+
+    private Lexicon lexicon;
+    private EndgameSolver solver;
+    private char[][] board;
+
+    @Before
+    public void setUp() {
+        lexicon = Lexicon.fromWords(Arrays.asList("cat", "cats", "scat", "at", "as", "ta", "act", "acts", "tact", "sat"));
+        solver = new EndgameSolver(lexicon, 12, Integer.MAX_VALUE);
+        board = new char[15][15];
+        board[7][6] = 'C';
+        board[7][7] = 'A';
+        board[7][8] = 'T';
+    }
+
+    @Test
+    public void testGoesOutWhenPossible() {
+        List<Character> own = Arrays.asList('S');
+        List<Character> opponent = Arrays.asList('Q', 'Z');
+
+        EndgameSolver.Result result = solver.solve(board, own, opponent, SearchBudget.UNLIMITED);
+
+        Move best = result.getBestMove();
+        assertNotNull(best);
+        assertEquals("The move should use the last tile.", 1, best.getTilesPlaced());
+        int opponentTiles = ScoreCalculation.letterValue('Q') + ScoreCalculation.letterValue('Z');
+        assertEquals(best.getScore() + 2 * opponentTiles, result.getValue());
+        assertTrue(result.isSolved());
+    }
+
+    @Test
+    public void testPassesWithoutLegalMove() {
+        List<Character> own = Arrays.asList('Q');
+        List<Character> opponent = Arrays.asList('S');
+
+        EndgameSolver.Result result = solver.solve(board, own, opponent, SearchBudget.UNLIMITED);
+
+        assertNull("With no legal move the solver should pass.", result.getBestMove());
+        assertTrue("The opponent goes out after the pass.", result.getValue() < 0);
+        assertTrue(result.isSolved());
+    }
+
+    @Test
+    public void testDoesNotModifyBoard() {
+        char[][] before = new char[15][];
+        for (int row = 0; row < 15; row++) {
+            before[row] = board[row].clone();
+        }
+
+        solver.solve(board, Arrays.asList('S', 'A', 'T'), Arrays.asList('C', 'T'), SearchBudget.UNLIMITED);
+
+        assertTrue(Arrays.deepEquals(before, board));
+    }
+
+    @Test
+    public void testRepeatedSolveReusesTable() {
+        List<Character> own = Arrays.asList('S', 'A', 'T');
+        List<Character> opponent = Arrays.asList('C', 'T');
+
+        EndgameSolver.Result first = solver.solve(board, own, opponent, SearchBudget.UNLIMITED);
+        EndgameSolver.Result second = solver.solve(board, own, opponent, SearchBudget.UNLIMITED);
+
+        assertEquals(first.getValue(), second.getValue());
+        assertTrue("The second search should find the position in the table.", second.getNodes() < first.getNodes());
+    }
+
+    @Test
+    public void testCancelledBudgetStillReturnsMove() {
+        SearchBudget budget = SearchBudget.untilCancelled();
+        budget.cancel();
+
+        EndgameSolver.Result result = solver.solve(board, Arrays.asList('S'), Arrays.asList('Q'), budget);
+
+        assertEquals(0, result.getDepth());
+        assertNotNull("The highest-scoring move should be played when no search finished.", result.getBestMove());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTableBitsMustBeInRange() {
+        new EndgameSolver(lexicon, 40, 8);
+    }
+}
@@ -0,0 +1,133 @@
+package tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import src.CrossChecks;
+import src.GameRules;
+import src.Lexicon;
+import src.Move;
+import src.MoveGenerator;
+import src.Placement;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class GameRulesTests {
+
+    private Lexicon lexicon;
+    private char[][] board;
+
+    @Before
+    public void setUp() {
+        lexicon = Lexicon.fromWords(Arrays.asList("cat", "cats", "scat", "at", "as", "ta", "act", "tact", "sat"));
+        board = new char[15][15];
+    }
+
+    private Placement place(int row, int col, boolean horizontal, String letters) {
+        Placement placement = new Placement();
+        for (int i = 0; i < letters.length(); i++) {
+            placement.add(horizontal ? row : row + i, horizontal ? col + i : col, letters.charAt(i));
+        }
+        placement.placeOn(board);
+        return placement;
+    }
+
+    @Test
+    public void testFirstMoveMustCoverCenter() {
+        Placement offCenter = place(0, 0, true, "CAT");
+        assertEquals("The first word must use the center tile.", GameRules.placementProblem(board, offCenter, true));
+        offCenter.removeFrom(board);
+
+        Placement centered = place(7, 6, true, "CAT");
+        assertNull(GameRules.placementProblem(board, centered, true));
+    }
+
+    @Test
+    public void testLaterMovesMustTouchBoardAndStayInLine() {
+        place(7, 6, true, "CAT");
+
+        Placement apart = place(0, 0, true, "AT");
+        assertEquals("Placed letters must be adjacent to existing words.", GameRules.placementProblem(board, apart, false));
+        apart.removeFrom(board);
+
+        Placement crooked = new Placement();
+        crooked.add(8, 6, 'A');
+        crooked.add(9, 7, 'T');
+        crooked.placeOn(board);
+        assertEquals("Placed letters must be in the same row or column.", GameRules.placementProblem(board, crooked, false));
+        crooked.removeFrom(board);
+
+        Placement hook = place(7, 9, true, "S");
+        assertNull(GameRules.placementProblem(board, hook, false));
+    }
+
+    @Test
+    public void testGapsAreRejected() {
+        place(7, 6, true, "CAT");
+        Placement gapped = new Placement();
+        gapped.add(8, 6, 'A');
+        gapped.add(10, 6, 'T');
+        gapped.placeOn(board);
+
+        assertEquals("Placed letters must not leave gaps.", GameRules.placementProblem(board, gapped, false));
+    }
+
+    @Test
+    public void testWordsFormedIncludeCrossWords() {
+        place(7, 6, true, "CAT");
+        // S under the A of CAT forms AS down the column
+        Placement down = place(8, 7, false, "S");
+
+        List<String> words = GameRules.wordsFormed(board, down);
+        assertEquals(Arrays.asList("AS"), words);
+    }
+
+    @Test
+    public void testScoreMatchesMoveGenerator() {
+        place(7, 6, true, "CAT");
+        CrossChecks crossChecks = new CrossChecks(lexicon, board);
+        List<Character> rack = Arrays.asList('S', 'C', 'A', 'T');
+
+        for (Move move : new MoveGenerator(lexicon).generate(board, rack, crossChecks)) {
+            Placement placement = move.placeOn(board);
+            assertEquals("Score of " + move, move.getScore(), GameRules.score(board, placement));
+            assertTrue(GameRules.arePlacedWordsValid(lexicon, crossChecks, board, placement));
+            placement.removeFrom(board);
+        }
+    }
+
+    @Test
+    public void testPremiumsOnlyCountUnderNewTiles() {
+        // (7, 3) is a double letter square
+        place(7, 3, true, "CAT");
+        Map<String, Integer> scores = GameRules.scoreWords(board, place(7, 6, true, "S"));
+        assertEquals("Only S is new, so the double letter under C no longer counts.", Integer.valueOf(6), scores.get("CATS"));
+    }
+
+    @Test
+    public void testBlankScoresNothing() {
+        // (7, 3) is a double letter square; the blank is written as a lower-case letter
+        place(7, 3, true, "CAT");
+        Map<String, Integer> scores = GameRules.scoreWords(board, place(7, 6, true, "s"));
+        assertEquals("The blank S adds no points.", Integer.valueOf(5), scores.get("CATS"));
+
+        CrossChecks crossChecks = new CrossChecks(lexicon, board);
+        for (Move move : new MoveGenerator(lexicon).generate(board, Arrays.asList(' ', 'A', 'T'), crossChecks)) {
+            Placement placement = move.placeOn(board);
+            assertEquals("Score of " + move, move.getScore(), GameRules.score(board, placement));
+            placement.removeFrom(board);
+        }
+    }
+
+    @Test
+    public void testInvalidCrossWordIsRejected() {
+        place(7, 6, true, "CAT");
+        CrossChecks crossChecks = new CrossChecks(lexicon, board);
+        Placement placement = place(8, 6, true, "TT");
+
+        assertFalse(GameRules.arePlacedWordsValid(lexicon, crossChecks, board, placement));
+    }
+}
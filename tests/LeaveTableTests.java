@@ -0,0 +1,120 @@
+package tests;
+
+import org.junit.After;
+import org.junit.Test;
+import src.LeaveTable;
+import src.Move;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class LeaveTableTests {
+
+    private static final String TEST_FILE = "tests/test_leaves.bin";
+
+    @After
+    public void tearDown() {
+        new File(TEST_FILE).delete();
+    }
+
+    @Test
+    public void testEncodingIgnoresOrderAndCase() {
+        assertEquals(LeaveTable.encode("AES"), LeaveTable.encode("sea"));
+        assertEquals("Both blank spellings should encode the same.", LeaveTable.encode("E "), LeaveTable.encode("?e"));
+        assertFalse(LeaveTable.encode("AES") == LeaveTable.encode("AEE"));
+        assertEquals("The empty leave has key 0.", 0, LeaveTable.encode(""));
+    }
+
+    @Test
+    public void testEncodingRejectsLongOrUnknownLeaves() {
+        assertTrue("Six tiles should fit in a key.", LeaveTable.encode("ZZZZZZ") > 0);
+        assertEquals("Seven tiles are not a leave.", -1, LeaveTable.encode("AEIOURS"));
+        assertEquals(-1, LeaveTable.encode("A1"));
+    }
+
+    @Test
+    public void testHeuristicPrefersGoodTiles() {
+        LeaveTable table = LeaveTable.heuristic();
+        assertTrue("Keeping an S should beat keeping a Q.", table.value("S") > table.value("Q"));
+        assertTrue("A blank should be worth keeping.", table.value(" ") > 0);
+        assertTrue("Duplicates should be penalized.", table.value("UU") < 2 * table.value("U"));
+    }
+
+    @Test
+    public void testLearnedValuesOverrideHeuristic() throws IOException {
+        Map<Integer, Float> values = new HashMap<>();
+        values.put(LeaveTable.encode("ERS"), 12.5f);
+        values.put(LeaveTable.encode("Q"), -20f);
+        LeaveTable table = LeaveTable.fromValues(values);
+        table.writeTo(Paths.get(TEST_FILE));
+
+        LeaveTable loaded = LeaveTable.load(TEST_FILE);
+        assertEquals(2, loaded.size());
+        assertEquals(12.5, loaded.value("SRE"), 0.0001);
+        assertEquals("Learned single tiles replace the built-in tile values.",
+                -20.0 + LeaveTable.heuristic().value("U"), loaded.value("QU"), 0.0001);
+    }
+
+    @Test(expected = IOException.class)
+    public void testLoadRejectsOtherFiles() throws IOException {
+        LeaveTable.load("resources/wordlist.txt");
+    }
+
+    @Test
+    public void testEquityAddsLeaveValueToScore() {
+        LeaveTable table = LeaveTable.heuristic();
+        Move keepS = new Move(7, 7, true, "QAT", 12, "QAT");
+        Move keepQ = new Move(7, 7, true, "SAT", 13, "SAT");
+
+        assertEquals("S", LeaveTable.leaveAfter(keepS, Arrays.asList('S', 'Q', 'A', 'T')));
+        assertTrue("Playing the Q and keeping the S should have the higher equity.",
+                table.equity(keepS, Arrays.asList('S', 'Q', 'A', 'T')) > table.equity(keepQ, Arrays.asList('S', 'Q', 'A', 'T')));
+    }
+
+    @Test
+    public void testBestExchangeLeaveKeepsOnlyGoodTiles() {
+        LeaveTable table = LeaveTable.heuristic();
+        assertEquals("S", table.bestExchangeLeave(Arrays.asList('Q', 'V', 'S', 'W', 'V', 'I', 'U')));
+        assertEquals("A repeated tile should be kept only once.", "E",
+                table.bestExchangeLeave(Arrays.asList('E', 'E', 'E', 'E', 'E', 'E', 'E')));
+        assertEquals("Blanks are kept as '?'.", "?S", table.bestExchangeLeave(Arrays.asList('Q', ' ', 'S')));
+    }
+
+    @Test
+    public void testBestExchangeLeaveUsesLearnedValues() {
+        Map<Integer, Float> values = new HashMap<>();
+        values.put(LeaveTable.encode("QU"), 30.0f);
+        LeaveTable table = LeaveTable.fromValues(values);
+        assertEquals("QU", table.bestExchangeLeave(Arrays.asList('U', 'V', 'S', 'Q', 'W')));
+    }
+
+    @Test
+    public void testBestExchangeLeaveExchangesAtLeastOneTile() {
+        String keep = LeaveTable.heuristic().bestExchangeLeave(Arrays.asList('S', 'S', 'E', 'R', 'A', 'N', 'E'));
+        assertTrue("Keeping the whole rack is not an exchange.", keep.length() < 7);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBestExchangeLeaveRejectsEmptyRack() {
+        LeaveTable.heuristic().bestExchangeLeave(Arrays.asList());
+    }
+
+    @Test
+    public void testLeaveUsesBlankForLowerCaseLetter() {
+        Move move = new Move(7, 7, true, "CAt", 4, "CAt");
+        assertEquals("The blank is played even though a T is on the rack.", "T",
+                LeaveTable.leaveAfter(move, Arrays.asList('C', 'A', 'T', ' ')));
+    }
+
+    @Test
+    public void testLeaveUsesBlankForMissingLetter() {
+        Move move = new Move(7, 7, true, "CAT", 5, "CAT");
+        assertEquals("E", LeaveTable.leaveAfter(move, Arrays.asList('C', ' ', 'T', 'E')));
+    }
+}
@@ -0,0 +1,50 @@
+package tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import src.Lexicon;
+import src.LexiconRegistry;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.*;
+
+public class LexiconRegistryTests {
+
+    private static final String KIDS_WORD_FILE = "tests/test_kids_wordlist.txt";
+
+    @Before
+    public void setUp() throws Exception {
+        Files.write(Paths.get(KIDS_WORD_FILE), "cat\ndog\nsun\n".getBytes());
+        LexiconRegistry.register("kids", KIDS_WORD_FILE);
+    }
+
+    @Test
+    public void testLexiconIsSharedByReference() {
+        Lexicon first = LexiconRegistry.get("kids");
+        Lexicon second = LexiconRegistry.get("kids");
+        assertSame("Games asking for the same name should share one lexicon.", first, second);
+        assertTrue("The kids list should contain 'dog'.", first.isWord("dog"));
+    }
+
+    @Test
+    public void testUnloadForcesReload() {
+        Lexicon first = LexiconRegistry.get("kids");
+        LexiconRegistry.unload("kids");
+        Lexicon reloaded = LexiconRegistry.get("kids");
+        assertNotSame("An unloaded lexicon should be loaded again.", first, reloaded);
+        assertTrue("The reloaded lexicon should have the same words.", reloaded.isWord("sun"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownNameIsRejected() {
+        LexiconRegistry.get("no-such-dictionary");
+    }
+
+    @Test
+    public void testDefaultIsRegistered() {
+        assertTrue("The shipped dictionary should always be registered.",
+                LexiconRegistry.isRegistered(LexiconRegistry.DEFAULT_NAME));
+    }
+}
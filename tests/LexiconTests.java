@@ -0,0 +1,78 @@
+package tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import src.Lexicon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class LexiconTests {
+
+    private Lexicon lexicon;
+
+    @Before
+    public void setUp() {
+        lexicon = Lexicon.fromWords(Arrays.asList("hello", "world", "test", "scrabble"));
+    }
+
+    @Test
+    public void testLookupsIgnoreCase() {
+        assertTrue("'HELLO' should be valid in any case.", lexicon.isWord("HELLO"));
+        assertTrue("'scr' should be a prefix.", lexicon.isPrefix("SCR"));
+        assertFalse("'java' should not be valid.", lexicon.isWord("java"));
+        assertEquals("The lexicon should hold four words.", 4, lexicon.wordCount());
+    }
+
+    @Test
+    public void testSeparateLexiconsAreIndependent() {
+        Lexicon other = Lexicon.fromWords(Arrays.asList("java"));
+        assertTrue("The second lexicon should accept its own words.", other.isWord("java"));
+        assertFalse("The first lexicon should be unaffected.", lexicon.isWord("java"));
+    }
+
+    @Test
+    public void testConcurrentReaders() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            results.add(pool.submit(() -> {
+                boolean ok = true;
+                for (int j = 0; j < 1000; j++) {
+                    ok &= lexicon.isWord("world") && !lexicon.isWord("worlds")
+                            && lexicon.wordsFromRack(Arrays.asList('T', 'E', 'S', 'T')).contains("test");
+                }
+                return ok;
+            }));
+        }
+        for (Future<Boolean> result : results) {
+            assertTrue("Every reader should see consistent answers.", result.get());
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCharArrayAndBoardLookups() {
+        char[] buffer = "xxWORLDxx".toCharArray();
+        assertTrue("A slice of a char array should be looked up in place.", lexicon.isWord(buffer, 2, 5));
+        assertFalse("A shorter slice should not match.", lexicon.isWord(buffer, 2, 4));
+        assertTrue("A StringBuilder should be accepted directly.", lexicon.isWord(new StringBuilder("Test")));
+
+        char[][] board = new char[15][15];
+        "TEST".getChars(0, 4, board[3], 5);
+        for (int i = 0; i < 5; i++) {
+            board[6 + i][2] = "HELLO".charAt(i);
+        }
+        assertTrue("A word along a row should be found.", lexicon.isWordOnBoard(board, 3, 5, true, 4));
+        assertTrue("A word down a column should be found.", lexicon.isWordOnBoard(board, 6, 2, false, 5));
+        assertFalse("A partial column should not be a word.", lexicon.isWordOnBoard(board, 6, 2, false, 4));
+    }
+}
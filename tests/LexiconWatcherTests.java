@@ -0,0 +1,63 @@
+package tests;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import src.Lexicon;
+import src.LexiconRegistry;
+import src.LexiconWatcher;
+import src.WordValidity;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.*;
+
+public class LexiconWatcherTests {
+
+    private static final String WATCHED_WORD_FILE = "tests/test_watched_wordlist.txt";
+    private LexiconWatcher watcher;
+
+    @Before
+    public void setUp() throws Exception {
+        Files.write(Paths.get(WATCHED_WORD_FILE), "hello\nworld\n".getBytes());
+        WordValidity.loadWordsFromFile(WATCHED_WORD_FILE);
+        watcher = WordValidity.watchWordList(WATCHED_WORD_FILE);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        watcher.close();
+    }
+
+    @Test
+    public void testEditedFileIsPickedUp() throws Exception {
+        assertFalse("'scrabble' should not be valid before the edit.", WordValidity.isWordValid("scrabble"));
+
+        Files.write(Paths.get(WATCHED_WORD_FILE), "hello\nworld\nscrabble\n".getBytes());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!WordValidity.isWordValid("scrabble") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue("The new word should be valid once the reload is published.", WordValidity.isWordValid("scrabble"));
+        assertTrue("Existing words should stay valid.", WordValidity.isWordValid("hello"));
+    }
+
+    @Test
+    public void testRegisteredDictionaryIsReplaced() throws Exception {
+        LexiconRegistry.register("watched", WATCHED_WORD_FILE);
+        Lexicon before = LexiconRegistry.get("watched");
+        assertFalse(before.isWord("scrabble"));
+
+        Files.write(Paths.get(WATCHED_WORD_FILE), "hello\nworld\nscrabble\n".getBytes());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!LexiconRegistry.get("watched").isWord("scrabble") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue("Games asking for the name should get the reloaded lexicon.",
+                LexiconRegistry.get("watched").isWord("scrabble"));
+        assertFalse("The lexicon a game already holds should not change.", before.isWord("scrabble"));
+    }
+}
@@ -0,0 +1,128 @@
+package tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import src.CrossChecks;
+import src.Lexicon;
+import src.LineMoveCache;
+import src.Move;
+import src.MoveGenerator;
+import src.ParallelMoveSearch;
+import src.Placement;
+import src.SearchBudget;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LineMoveCacheTests {
+
+    private Lexicon lexicon;
+    private MoveGenerator generator;
+    private LineMoveCache cache;
+    private char[][] board;
+    private List<Character> rack;
+
+    @Before
+    public void setUp() {
+        lexicon = Lexicon.fromWords(Arrays.asList("cat", "cats", "scat", "at", "as", "ta", "act", "acts", "tact", "sat"));
+        generator = new MoveGenerator(lexicon);
+        cache = new LineMoveCache(15);
+        board = new char[15][15];
+        board[7][6] = 'C';
+        board[7][7] = 'A';
+        board[7][8] = 'T';
+        rack = Arrays.asList('S', 'C', 'A', 'T');
+    }
+
+    private List<Move> generate(List<Character> tiles, SearchBudget budget) {
+        return generator.generate(board, tiles, new CrossChecks(lexicon, board), budget, cache);
+    }
+
+    @Test
+    public void testUnchangedBoardIsServedFromCache() {
+        List<Move> first = generate(rack, SearchBudget.UNLIMITED);
+        assertEquals(0, cache.getHits());
+        assertEquals(30, cache.getMisses());
+
+        List<Move> second = generate(rack, SearchBudget.UNLIMITED);
+
+        assertEquals(first.toString(), second.toString());
+        assertEquals("Every line should be reused.", 30, cache.getHits());
+    }
+
+    @Test
+    public void testOnlyLinesTheMoveChangedAreSearchedAgain() {
+        generate(rack, SearchBudget.UNLIMITED);
+        long missesBefore = cache.getMisses();
+
+        // SAT down through the A of CAT changes column 7 and the rows it covers or borders
+        Placement placement = new Placement();
+        placement.add(6, 7, 'S');
+        placement.add(8, 7, 'T');
+        placement.placeOn(board);
+
+        List<Move> cached = generate(rack, SearchBudget.UNLIMITED);
+        List<Move> fresh = generator.generate(board, rack, new CrossChecks(lexicon, board));
+
+        assertEquals("The cache must not change the moves or their order.", fresh.toString(), cached.toString());
+        long searched = cache.getMisses() - missesBefore;
+        assertTrue("Only lines near the move should be searched again, not " + searched + ".", searched > 0 && searched < 15);
+    }
+
+    @Test
+    public void testDifferentRackSearchesEveryLine() {
+        generate(rack, SearchBudget.UNLIMITED);
+
+        List<Move> moves = generate(Arrays.asList('S'), SearchBudget.UNLIMITED);
+
+        assertEquals(0, cache.getHits());
+        assertEquals(generator.generate(board, Arrays.asList('S')).toString(), moves.toString());
+    }
+
+    @Test
+    public void testSearchCutShortIsNotStored() {
+        SearchBudget cancelled = SearchBudget.untilCancelled();
+        cancelled.cancel();
+        generate(rack, cancelled);
+
+        generate(rack, SearchBudget.UNLIMITED);
+
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    public void testCachedLinesAreServedAfterTheBudgetRunsOut() {
+        List<Move> first = generate(rack, SearchBudget.UNLIMITED);
+        SearchBudget cancelled = SearchBudget.untilCancelled();
+        cancelled.cancel();
+
+        assertEquals("Cached lines cost no search, so a spent budget should still return them.",
+                first.toString(), generate(rack, cancelled).toString());
+        try (ParallelMoveSearch search = new ParallelMoveSearch(lexicon, 2)) {
+            List<Move> top = search.topMoves(board, rack, new CrossChecks(lexicon, board), 5, cancelled, Move::getScore, cache);
+            assertEquals(Math.min(5, first.size()), top.size());
+        }
+    }
+
+    @Test
+    public void testParallelSearchFindsTheSameMovesWithCache() {
+        try (ParallelMoveSearch search = new ParallelMoveSearch(lexicon, 2)) {
+            CrossChecks crossChecks = new CrossChecks(lexicon, board);
+            List<Move> uncached = search.topMoves(board, rack, crossChecks, 5);
+            search.topMoves(board, rack, crossChecks, 5, SearchBudget.UNLIMITED, Move::getScore, cache);
+            List<Move> cached = search.topMoves(board, rack, crossChecks, 5, SearchBudget.UNLIMITED, Move::getScore, cache);
+
+            assertEquals(30, cache.getHits());
+            for (int i = 0; i < uncached.size(); i++) {
+                assertEquals(uncached.get(i).getScore(), cached.get(i).getScore());
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCacheMustMatchBoardSize() {
+        generator.generate(board, rack, new CrossChecks(lexicon, board), SearchBudget.UNLIMITED, new LineMoveCache(11));
+    }
+}
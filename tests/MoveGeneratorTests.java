@@ -0,0 +1,218 @@
+package tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import src.Lexicon;
+import src.Move;
+import src.CrossChecks;
+import src.MoveGenerator;
+import src.SearchBudget;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class MoveGeneratorTests {
+
+    private Lexicon lexicon;
+    private MoveGenerator generator;
+    private char[][] board;
+
+    @Before
+    public void setUp() {
+        lexicon = Lexicon.fromWords(Arrays.asList("cat", "cats", "scat", "at", "act", "tact", "ta", "as"));
+        generator = new MoveGenerator(lexicon);
+        board = new char[15][15];
+    }
+
+    @Test
+    public void testEmptyBoardAnchorIsCentre() {
+        List<Point> anchors = MoveGenerator.findAnchors(board);
+        assertEquals("An empty board should have one anchor.", 1, anchors.size());
+        assertEquals("The anchor should be the centre square.", new Point(7, 7), anchors.get(0));
+    }
+
+    @Test
+    public void testWordsHookThroughExistingTilesOnBothSides() {
+        // "CAT" across row 7, columns 6-8
+        board[7][6] = 'C';
+        board[7][7] = 'A';
+        board[7][8] = 'T';
+
+        Set<String> across = words(generator.generate(board, Arrays.asList('S', 'T')), true);
+
+        assertTrue("An S before CAT should form SCAT.", across.contains("SCAT"));
+        assertTrue("An S after CAT should form CATS.", across.contains("CATS"));
+        assertFalse("Tiles not in the dictionary should not be suggested.", across.contains("CATT"));
+    }
+
+    @Test
+    public void testMovesOnlyUseRackTilesAndCoverCentre() {
+        List<Move> moves = generator.generate(board, Arrays.asList('C', 'A', 'T'));
+        Set<String> words = words(moves, true);
+        assertTrue("CAT can be formed from the rack.", words.contains("CAT"));
+        assertTrue("ACT can be formed from the rack.", words.contains("ACT"));
+        assertFalse("TACT needs two Ts.", words.contains("TACT"));
+        for (Move move : moves) {
+            int start = move.isHorizontal() ? move.getCol() : move.getRow();
+            int line = move.isHorizontal() ? move.getRow() : move.getCol();
+            assertEquals("Every opening move must be on the centre line.", 7, line);
+            assertTrue("Every opening move must cover the centre.", start <= 7 && start + move.getWord().length() > 7);
+        }
+    }
+
+    @Test
+    public void testEveryMoveFormsOnlyDictionaryWords() {
+        // "CAT" across row 7 and "AT" down from its A
+        board[7][6] = 'C';
+        board[7][7] = 'A';
+        board[7][8] = 'T';
+        board[8][7] = 'T';
+
+        List<Move> moves = generator.generate(board, Arrays.asList('S', 'C', 'A', 'T'));
+        assertFalse("The rack should have moves.", moves.isEmpty());
+        for (Move move : moves) {
+            char[][] after = new char[15][];
+            for (int row = 0; row < 15; row++) {
+                after[row] = board[row].clone();
+            }
+            String word = move.getWord();
+            for (int i = 0; i < word.length(); i++) {
+                int row = move.isHorizontal() ? move.getRow() : move.getRow() + i;
+                int col = move.isHorizontal() ? move.getCol() + i : move.getCol();
+                after[row][col] = word.charAt(i);
+            }
+            assertTrue("Main word of " + move + " must be valid.",
+                    lexicon.isWordOnBoard(after, move.getRow(), move.getCol(), move.isHorizontal(), word.length()));
+            for (int i = 0; i < word.length(); i++) {
+                int row = move.isHorizontal() ? move.getRow() : move.getRow() + i;
+                int col = move.isHorizontal() ? move.getCol() + i : move.getCol();
+                if (board[row][col] == '\0') {
+                    assertTrue("Cross word of " + move + " must be valid.", isCrossWordValid(after, row, col, !move.isHorizontal()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMovesAreScoredAndBestIsChosen() {
+        board[7][6] = 'C';
+        board[7][7] = 'A';
+        board[7][8] = 'T';
+
+        List<Move> moves = generator.generate(board, Arrays.asList('S'));
+        Move cats = find(moves, "CATS", true);
+        assertNotNull("CATS should be generated.", cats);
+        assertEquals("CATS uses one rack tile.", 1, cats.getTilesPlaced());
+        assertEquals("CATS scores the face value of every letter.", 6, cats.getScore());
+
+        Move best = generator.findBestMove(board, Arrays.asList('S'));
+        for (Move move : moves) {
+            assertTrue("The best move must score at least as much as every other move.", best.getScore() >= move.getScore());
+        }
+    }
+
+    @Test
+    public void testBlankStandsForAnyLetterAndScoresNothing() {
+        board[7][6] = 'C';
+        board[7][7] = 'A';
+        board[7][8] = 'T';
+
+        List<Move> moves = generator.generate(board, Arrays.asList(' '));
+        Move cats = find(moves, "CATs", true);
+        assertNotNull("A blank after CAT should form CATS.", cats);
+        assertEquals("The blank is placed as a lower-case letter.", "s", cats.getPlacedTiles());
+        assertEquals("The blank adds no points.", 5, cats.getScore());
+        assertNotNull("A blank before CAT should form SCAT.", find(moves, "sCAT", true));
+    }
+
+    @Test
+    public void testBlankIsNotUsedForALetterOnTheRack() {
+        board[7][6] = 'C';
+        board[7][7] = 'A';
+        board[7][8] = 'T';
+
+        List<Move> moves = generator.generate(board, Arrays.asList('S', ' '));
+        assertNotNull(find(moves, "CATS", true));
+        assertNull("The S tile should be played instead of a blank S.", find(moves, "CATs", true));
+    }
+
+    @Test
+    public void testRepeatedLetterPutsTheTileOnThePremiumSquare() {
+        MoveGenerator pizzaGenerator = new MoveGenerator(Lexicon.fromWords(Arrays.asList("pizza")));
+        // PI across row 5, so PIZZA puts its second Z on the triple letter square at column 9
+        board[5][6] = 'P';
+        board[5][7] = 'I';
+
+        List<Move> moves = pizzaGenerator.generate(board, Arrays.asList('Z', ' ', 'A'));
+        Move pizza = find(moves, "PIzZA", true);
+        assertNotNull("The Z tile should go on the triple letter square and the blank on the plain one.", pizza);
+        assertEquals("P(3) + I(1) + z(0) + Z(10) * 3 + A(1)", 35, pizza.getScore());
+        assertNull("The tile and the blank should not be left the other way round.", find(moves, "PIZzA", true));
+    }
+
+    @Test
+    public void testEachMoveIsGeneratedOnce() {
+        board[7][6] = 'C';
+        board[7][7] = 'A';
+        board[7][8] = 'T';
+
+        List<Move> moves = generator.generate(board, Arrays.asList('S', 'C', 'A', 'T'));
+        Set<String> seen = new HashSet<>();
+        for (Move move : moves) {
+            assertTrue("Duplicate move " + move, seen.add(move.toString()));
+        }
+    }
+
+    @Test
+    public void testExhaustedBudgetStopsTheSearch() {
+        board[7][6] = 'C';
+        board[7][7] = 'A';
+        board[7][8] = 'T';
+
+        SearchBudget budget = SearchBudget.untilCancelled();
+        budget.cancel();
+        List<Move> moves = generator.generate(board, Arrays.asList('S', 'C', 'A', 'T'), new CrossChecks(lexicon, board), budget);
+        assertTrue("A cancelled search should not look at any anchor.", moves.isEmpty());
+    }
+
+    private boolean isCrossWordValid(char[][] after, int row, int col, boolean horizontal) {
+        int dRow = horizontal ? 0 : 1;
+        int dCol = horizontal ? 1 : 0;
+        int startRow = row;
+        int startCol = col;
+        while (startRow - dRow >= 0 && startCol - dCol >= 0 && after[startRow - dRow][startCol - dCol] != '\0') {
+            startRow -= dRow;
+            startCol -= dCol;
+        }
+        int length = 0;
+        while (startRow + length * dRow < 15 && startCol + length * dCol < 15
+                && after[startRow + length * dRow][startCol + length * dCol] != '\0') {
+            length++;
+        }
+        return length == 1 || lexicon.isWordOnBoard(after, startRow, startCol, horizontal, length);
+    }
+
+    private Move find(List<Move> moves, String word, boolean horizontal) {
+        for (Move move : moves) {
+            if (move.getWord().equals(word) && move.isHorizontal() == horizontal) {
+                return move;
+            }
+        }
+        return null;
+    }
+
+    private Set<String> words(List<Move> moves, boolean horizontal) {
+        Set<String> words = new HashSet<>();
+        for (Move move : moves) {
+            if (move.isHorizontal() == horizontal) {
+                words.add(move.getWord());
+            }
+        }
+        return words;
+    }
+}
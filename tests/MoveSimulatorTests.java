@@ -0,0 +1,114 @@
+package tests;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import src.CrossChecks;
+import src.LeaveTable;
+import src.Lexicon;
+import src.Move;
+import src.MoveGenerator;
+import src.MoveSimulator;
+import src.SearchBudget;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MoveSimulatorTests {
+
+    private Lexicon lexicon;
+    private MoveSimulator simulator;
+    private char[][] board;
+    private List<Character> rack;
+    private List<Character> unseen;
+
+    @Before
+    public void setUp() {
+        lexicon = Lexicon.fromWords(Arrays.asList("cat", "cats", "scat", "at", "as", "ta", "act", "acts", "tact", "sat", "tacts"));
+        simulator = new MoveSimulator(lexicon, LeaveTable.heuristic(), 2, 2, 16);
+        board = new char[15][15];
+        board[7][6] = 'C';
+        board[7][7] = 'A';
+        board[7][8] = 'T';
+        rack = Arrays.asList('S', 'C', 'A', 'T', 'T');
+        unseen = Arrays.asList('A', 'A', 'C', 'S', 'T', 'T', 'E', 'E', 'Q', 'S', 'A', 'T');
+    }
+
+    @After
+    public void tearDown() {
+        simulator.close();
+    }
+
+    private List<Move> candidates(int count) {
+        List<Move> moves = new MoveGenerator(lexicon).generate(board, rack, new CrossChecks(lexicon, board));
+        return new ArrayList<>(moves.subList(0, Math.min(count, moves.size())));
+    }
+
+    @Test
+    public void testRankKeepsEveryCandidate() {
+        List<Move> candidates = candidates(6);
+        assertTrue("The test position should have several moves.", candidates.size() > 1);
+
+        List<Move> ranked = simulator.rank(board, rack, unseen, candidates, SearchBudget.UNLIMITED);
+
+        assertEquals(candidates.size(), ranked.size());
+        assertEquals(new HashSet<>(candidates), new HashSet<>(ranked));
+    }
+
+    @Test
+    public void testRankDoesNotChangeBoard() {
+        char[][] before = new char[15][];
+        for (int row = 0; row < 15; row++) {
+            before[row] = board[row].clone();
+        }
+
+        simulator.rank(board, rack, unseen, candidates(6), SearchBudget.UNLIMITED);
+
+        assertTrue("Simulation should play on a copy of the board.", Arrays.deepEquals(before, board));
+    }
+
+    @Test
+    public void testRankWithCrossChecksDoesNotChangeThem() {
+        CrossChecks crossChecks = new CrossChecks(lexicon, board);
+        List<Move> candidates = candidates(6);
+
+        try (MoveSimulator threePly = new MoveSimulator(lexicon, LeaveTable.heuristic(), 2, 3, 16)) {
+            List<Move> ranked = threePly.rank(board, crossChecks, rack, unseen, candidates, SearchBudget.UNLIMITED);
+            assertEquals(new HashSet<>(candidates), new HashSet<>(ranked));
+        }
+
+        CrossChecks fresh = new CrossChecks(lexicon, board);
+        for (int row = 0; row < 15; row++) {
+            for (int col = 0; col < 15; col++) {
+                for (boolean horizontal : new boolean[]{true, false}) {
+                    assertEquals("Samples should update a copy of the table.",
+                            fresh.allowed(horizontal, row, col), crossChecks.allowed(horizontal, row, col));
+                    assertEquals(fresh.crossScore(horizontal, row, col), crossChecks.crossScore(horizontal, row, col));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testExhaustedBudgetKeepsOriginalOrder() {
+        List<Move> candidates = candidates(6);
+        SearchBudget budget = SearchBudget.untilCancelled();
+        budget.cancel();
+
+        assertEquals(candidates, simulator.rank(board, rack, unseen, candidates, budget));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPliesMustBeTwoOrThree() {
+        new MoveSimulator(lexicon, LeaveTable.heuristic(), 1, 4, 16);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelismMustBePositive() {
+        new MoveSimulator(lexicon, LeaveTable.heuristic(), 0, 2, 16);
+    }
+}
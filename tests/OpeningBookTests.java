@@ -0,0 +1,108 @@
+package tests;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import src.LeaveTable;
+import src.Lexicon;
+import src.Move;
+import src.OpeningBook;
+import src.SearchBudget;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class OpeningBookTests {
+
+    private static final String BOOK_FILE = "tests/test_openings.bin";
+
+    private Lexicon lexicon;
+    private OpeningBook book;
+
+    @Before
+    public void setUp() {
+        lexicon = Lexicon.fromWords(Arrays.asList("cat", "cats", "scat", "at", "as", "ta", "act", "acts", "tact", "sat"));
+        book = new OpeningBook(lexicon, LeaveTable.heuristic(), 4);
+    }
+
+    @After
+    public void tearDown() {
+        new File(BOOK_FILE).delete();
+    }
+
+    @Test
+    public void testRackKeyIgnoresOrderAndCase() {
+        assertEquals("?ACST", OpeningBook.rackKey(Arrays.asList('t', 'S', ' ', 'A', 'C')));
+        assertEquals(OpeningBook.rackKey(Arrays.asList('C', 'A', 'T', '?')), OpeningBook.rackKey(Arrays.asList(' ', 'T', 'A', 'C')));
+    }
+
+    @Test
+    public void testOpeningsAreRankedAndKept() {
+        List<Move> moves = book.openings(Arrays.asList('S', 'C', 'A', 'T'));
+
+        assertFalse(moves.isEmpty());
+        assertTrue("Only the best four moves are kept.", moves.size() <= 4);
+        assertEquals(1, book.size());
+        for (Move move : moves) {
+            int line = move.isHorizontal() ? move.getRow() : move.getCol();
+            assertEquals("Every opening must be on the centre line.", 7, line);
+        }
+
+        // The same rack in another order is found in the book, so even a cancelled search returns it
+        SearchBudget cancelled = SearchBudget.untilCancelled();
+        cancelled.cancel();
+        assertEquals(moves.toString(), book.openings(Arrays.asList('T', 'A', 'C', 'S'), cancelled).toString());
+    }
+
+    @Test
+    public void testSearchCutShortIsNotKept() {
+        SearchBudget cancelled = SearchBudget.untilCancelled();
+        cancelled.cancel();
+
+        book.openings(Arrays.asList('S', 'C', 'A', 'T'), cancelled);
+
+        assertEquals(0, book.size());
+    }
+
+    @Test
+    public void testIsOpeningOnlyForEmptyBoard() {
+        char[][] board = new char[15][15];
+        assertTrue(OpeningBook.isOpening(board));
+        board[7][7] = 'A';
+        assertFalse(OpeningBook.isOpening(board));
+    }
+
+    @Test
+    public void testWriteAndLoadRoundTrip() throws IOException {
+        List<Move> moves = book.openings(Arrays.asList('S', 'C', 'A', 'T'));
+        book.writeTo(new File(BOOK_FILE).toPath());
+
+        OpeningBook loaded = OpeningBook.load(BOOK_FILE, lexicon, LeaveTable.heuristic());
+
+        assertEquals(1, loaded.size());
+        assertEquals(4, loaded.getMovesPerRack());
+        SearchBudget cancelled = SearchBudget.untilCancelled();
+        cancelled.cancel();
+        List<Move> loadedMoves = loaded.openings(Arrays.asList('C', 'A', 'T', 'S'), cancelled);
+        assertEquals(moves.toString(), loadedMoves.toString());
+        for (int i = 0; i < moves.size(); i++) {
+            assertEquals(moves.get(i).getScore(), loadedMoves.get(i).getScore());
+            assertEquals(moves.get(i).getPlacedTiles(), loadedMoves.get(i).getPlacedTiles());
+        }
+    }
+
+    @Test
+    public void testLoadRejectsBookForAnotherLexicon() throws IOException {
+        book.openings(Arrays.asList('S', 'C', 'A', 'T'));
+        book.writeTo(new File(BOOK_FILE).toPath());
+        Lexicon other = Lexicon.fromWords(Arrays.asList("cat", "at"));
+
+        OpeningBook fallback = OpeningBook.loadOrEmpty(BOOK_FILE, other, LeaveTable.heuristic(), 4);
+
+        assertEquals("A book for another lexicon should be ignored.", 0, fallback.size());
+    }
+}
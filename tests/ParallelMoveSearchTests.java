@@ -0,0 +1,68 @@
+package tests;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import src.CrossChecks;
+import src.Lexicon;
+import src.Move;
+import src.MoveGenerator;
+import src.ParallelMoveSearch;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ParallelMoveSearchTests {
+
+    private Lexicon lexicon;
+    private ParallelMoveSearch search;
+    private char[][] board;
+
+    @Before
+    public void setUp() {
+        lexicon = Lexicon.fromWords(Arrays.asList("cat", "cats", "scat", "at", "as", "ta", "act", "acts", "tact", "sat", "tacts"));
+        search = new ParallelMoveSearch(lexicon, 4);
+        board = new char[15][15];
+        board[7][6] = 'C';
+        board[7][7] = 'A';
+        board[7][8] = 'T';
+        board[8][7] = 'T';
+    }
+
+    @After
+    public void tearDown() {
+        search.close();
+    }
+
+    @Test
+    public void testTopMovesMatchSingleThreadedSearch() {
+        List<Character> rack = Arrays.asList('S', 'C', 'A', 'T', 'T');
+        CrossChecks crossChecks = new CrossChecks(lexicon, board);
+
+        List<Move> all = new MoveGenerator(lexicon).generate(board, rack, crossChecks);
+        all.sort(ParallelMoveSearch.BY_SCORE_DESCENDING);
+        List<Move> top = search.topMoves(board, rack, crossChecks, 5);
+
+        assertEquals("Only the requested number of moves should be kept.", Math.min(5, all.size()), top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals("Move " + i + " should score the same as in a single-threaded search.",
+                    all.get(i).getScore(), top.get(i).getScore());
+        }
+    }
+
+    @Test
+    public void testLimitLargerThanMoveCountKeepsEveryMove() {
+        List<Character> rack = Arrays.asList('S');
+        CrossChecks crossChecks = new CrossChecks(lexicon, board);
+
+        int total = new MoveGenerator(lexicon).generate(board, rack, crossChecks).size();
+        assertEquals(total, search.topMoves(board, rack, crossChecks, 1000).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelismMustBePositive() {
+        new ParallelMoveSearch(lexicon, 0);
+    }
+}
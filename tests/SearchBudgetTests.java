@@ -0,0 +1,33 @@
+package tests;
+
+import org.junit.Test;
+import src.SearchBudget;
+
+import static org.junit.Assert.*;
+
+public class SearchBudgetTests {
+
+    @Test
+    public void testDeadlineExhaustsBudget() throws InterruptedException {
+        SearchBudget budget = SearchBudget.ofMillis(20);
+        assertFalse("A fresh budget should not be exhausted.", budget.isExhausted());
+        Thread.sleep(40);
+        assertTrue("The budget should run out after its deadline.", budget.isExhausted());
+        assertFalse("Running out of time is not a cancellation.", budget.isCancelled());
+    }
+
+    @Test
+    public void testCancelExhaustsBudget() {
+        SearchBudget budget = SearchBudget.untilCancelled();
+        assertFalse(budget.isExhausted());
+        budget.cancel();
+        assertTrue(budget.isCancelled());
+        assertTrue(budget.isExhausted());
+    }
+
+    @Test
+    public void testUnlimitedBudgetCannotBeCancelled() {
+        SearchBudget.UNLIMITED.cancel();
+        assertFalse(SearchBudget.UNLIMITED.isExhausted());
+    }
+}
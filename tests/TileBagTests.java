@@ -5,10 +5,13 @@ import GUI.ScrabbleController;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class TileBagTests {
@@ -53,4 +56,41 @@ public class TileBagTests {
         int expectedTotal = 100 - 10;
         assertEquals("Total tile count should decrease by 10.", expectedTotal, tileBag.totalTiles);
     }
+
+    @Test
+    public void testExchangeTilesKeepsBagTotal() {
+        List<Character> rack = tileBag.drawTiles(7);
+        List<Character> drawnTiles = tileBag.exchangeTiles(new ArrayList<>(rack.subList(0, 3)));
+
+        assertEquals("Should draw one tile for each tile exchanged.", 3, drawnTiles.size());
+        assertEquals("Exchanging should not change the number of tiles in the bag.", 93, tileBag.totalTiles);
+        int counted = 0;
+        for (int count : tileBag.tileCounts.values()) {
+            counted += count;
+        }
+        assertEquals("Tile counts should match the total.", tileBag.totalTiles, counted);
+    }
+
+    @Test
+    public void testReturnTilesRefillsCounts() {
+        tileBag.tileCounts.put('Z', 0);
+        tileBag.totalTiles--;
+        tileBag.returnTiles(Arrays.asList('Z', '?'));
+
+        assertEquals((Integer) 1, tileBag.tileCounts.get('Z'));
+        assertEquals("A '?' should be returned as a blank.", (Integer) 3, tileBag.tileCounts.get(' '));
+        assertEquals(101, tileBag.totalTiles);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testExchangeNeedsFullRackInBag() {
+        tileBag.drawTiles(100 - TileBag.MIN_TILES_TO_EXCHANGE + 1);
+        assertFalse(tileBag.canExchange());
+        tileBag.exchangeTiles(Arrays.asList('E'));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExchangeRejectsUnknownTiles() {
+        tileBag.exchangeTiles(Arrays.asList('E', '1'));
+    }
 }
@@ -0,0 +1,125 @@
+package tests;
+
+import org.junit.Before;
+import org.junit.Test;
+import src.Placement;
+import src.TileBag;
+import src.UnseenTileTracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class UnseenTileTrackerTests {
+
+    private static final double DELTA = 1e-9;
+
+    private TileBag tileBag;
+    private Map<String, List<Character>> racks;
+
+    @Before
+    public void setUp() {
+        tileBag = new TileBag();
+        racks = new HashMap<>();
+        racks.put("Alice", new ArrayList<>(tileBag.drawTiles(7)));
+        racks.put("Bob", new ArrayList<>(tileBag.drawTiles(7)));
+    }
+
+    @Test
+    public void testCountsBagAndOpponentRacks() {
+        UnseenTileTracker tracker = new UnseenTileTracker(tileBag, racks);
+
+        assertEquals("Only a player's own rack is seen.", 93, tracker.unseenTotal("Alice"));
+        assertEquals(86, tracker.bagTotal());
+        for (char tile : "ESZ ".toCharArray()) {
+            int expected = tileBag.tileCounts.get(tile) + count(racks.get("Bob"), tile);
+            assertEquals("Unseen count of '" + tile + "'", expected, tracker.unseenCount("Alice", tile));
+        }
+        assertEquals(93, tracker.unseenTiles(racks.get("Alice")).size());
+    }
+
+    @Test
+    public void testUpdatesMatchRecount() {
+        UnseenTileTracker tracker = new UnseenTileTracker(tileBag, racks);
+        List<Character> rack = racks.get("Alice");
+
+        // Alice plays three tiles, a blank as a lower-case letter, and draws three more
+        Placement placement = new Placement();
+        for (int i = 0; i < 3; i++) {
+            char tile = rack.get(i);
+            placement.add(7, 7 + i, tile == ' ' ? 'e' : tile);
+        }
+        rack.subList(0, 3).clear();
+        tracker.played("Alice", placement);
+        List<Character> drawn = tileBag.drawTiles(3);
+        rack.addAll(drawn);
+        tracker.drew("Alice", drawn);
+
+        // Bob exchanges two tiles
+        List<Character> bobRack = racks.get("Bob");
+        List<Character> returned = new ArrayList<>(bobRack.subList(0, 2));
+        List<Character> replacements = tileBag.exchangeTiles(returned);
+        bobRack.subList(0, 2).clear();
+        bobRack.addAll(replacements);
+        tracker.returned("Bob", returned);
+        tracker.drew("Bob", replacements);
+
+        assertSameCounts(new UnseenTileTracker(tileBag, racks), tracker);
+    }
+
+    @Test
+    public void testDrawProbability() {
+        tileBag.tileCounts.replaceAll((tile, count) -> 0);
+        tileBag.tileCounts.put('S', 1);
+        tileBag.tileCounts.put('E', 3);
+        tileBag.totalTiles = 4;
+        racks.clear();
+        UnseenTileTracker tracker = new UnseenTileTracker(tileBag, racks);
+
+        assertEquals(0.25, tracker.drawProbability("Alice", "S", 1), DELTA);
+        assertEquals("1 - (3/4)(2/3)", 0.5, tracker.drawProbability("Alice", "S", 2), DELTA);
+        assertEquals("Repeated tiles should count once.", 0.5, tracker.drawProbability("Alice", "SSs", 2), DELTA);
+        assertEquals("The whole bag must contain the S.", 1.0, tracker.drawProbability("Alice", "S", 7), DELTA);
+        assertEquals(0.0, tracker.drawProbability("Alice", "?Z", 4), DELTA);
+        assertEquals(0.0, tracker.drawProbability("Alice", "S", 0), DELTA);
+    }
+
+    @Test
+    public void testDrawProbabilityCountsOpponentRacks() {
+        tileBag.tileCounts.replaceAll((tile, count) -> 0);
+        tileBag.tileCounts.put('E', 2);
+        tileBag.totalTiles = 2;
+        racks.clear();
+        racks.put("Alice", new ArrayList<>(Arrays.asList('A')));
+        racks.put("Bob", new ArrayList<>(Arrays.asList('?', 'E')));
+        UnseenTileTracker tracker = new UnseenTileTracker(tileBag, racks);
+
+        assertEquals(1, tracker.unseenCount("Alice", ' '));
+        assertEquals("Bob's blank is unseen to Alice but seen by Bob.", 0, tracker.unseenCount("Bob", '?'));
+        assertEquals("1 - (3/4)(2/3)", 0.5, tracker.drawProbability("Alice", "?", 2), DELTA);
+        assertEquals(0.0, tracker.drawProbability("Bob", "?", 2), DELTA);
+    }
+
+    private static void assertSameCounts(UnseenTileTracker expected, UnseenTileTracker actual) {
+        assertEquals(expected.bagTotal(), actual.bagTotal());
+        for (String player : Arrays.asList("Alice", "Bob")) {
+            assertEquals(expected.unseenTotal(player), actual.unseenTotal(player));
+            for (char tile = 'A'; tile <= 'Z'; tile++) {
+                assertEquals(player + " '" + tile + "'", expected.unseenCount(player, tile), actual.unseenCount(player, tile));
+            }
+            assertEquals(expected.unseenCount(player, ' '), actual.unseenCount(player, ' '));
+        }
+    }
+
+    private static int count(List<Character> tiles, char tile) {
+        int count = 0;
+        for (char each : tiles) {
+            if (each == tile) count++;
+        }
+        return count;
+    }
+}
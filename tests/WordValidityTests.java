@@ -2,6 +2,7 @@ package tests;
 
 import org.junit.Before;
 import org.junit.Test;
+import src.LexiconCompiler;
 import src.WordValidity;
 
 import java.nio.file.Files;
@@ -40,4 +41,16 @@ public class WordValidityTests {
         assertFalse("The word 'java' should not be valid.", WordValidity.isWordValid("java"));
     }
 
+    @Test
+    public void testCompiledLexiconMatchesTextList() throws Exception {
+        // Compile the sample list to a binary file, map it back and check lookups still agree
+        String compiledFile = "tests/test_wordlist.lex";
+        LexiconCompiler.compile(WordValidity.readWords(TEST_WORD_FILE), Paths.get(compiledFile));
+        WordValidity.loadCompiledFile(compiledFile);
+
+        assertTrue("The word 'scrabble' should be valid after mapping.", WordValidity.isWordValid("scrabble"));
+        assertTrue("'wor' should be a valid prefix after mapping.", WordValidity.isPrefixValid("wor"));
+        assertFalse("The word 'java' should not be valid after mapping.", WordValidity.isWordValid("java"));
+        assertEquals("All four words should be mapped.", 4, WordValidity.getDawg().wordCount());
+    }
 }